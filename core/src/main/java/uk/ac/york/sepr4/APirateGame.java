@@ -4,27 +4,137 @@ import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import lombok.Getter;
+import lombok.Setter;
+import uk.ac.york.sepr4.hud.DebugHUD;
+import uk.ac.york.sepr4.io.CompressedTextures;
+import uk.ac.york.sepr4.io.PackFiles;
+import uk.ac.york.sepr4.render.IdleRenderController;
+import uk.ac.york.sepr4.render.RenderContext;
+import uk.ac.york.sepr4.screen.LoadingScreen;
 import uk.ac.york.sepr4.screen.MenuScreen;
+import uk.ac.york.sepr4.utils.PhaseTimer;
+import uk.ac.york.sepr4.utils.ResourceScope;
+import uk.ac.york.sepr4.utils.SoakMonitor;
+import uk.ac.york.sepr4.utils.StyleManager;
+import uk.ac.york.sepr4.utils.TaskPool;
 
 public class APirateGame extends Game {
 
 	@Getter
 	private MenuScreen menuScreen;
+	//batch and shape renderer shared by every screen/HUD
+	@Getter
+	private RenderContext renderContext;
+	//renders static screens on demand only
+	@Getter
+	private IdleRenderController idleRenderController = new IdleRenderController();
+	//startup phases (time to interactive menu)
+	@Getter
+	private PhaseTimer startupTimer;
+	//F3 overlay / F4 resource report
+	private DebugHUD debugHUD;
+	//current game (disposed when replaced by a new game)
+	@Getter
+	private GameInstance gameInstance;
+	//worker threads for CPU-only loading work (e.g. map preprocessing)
+	@Getter
+	private TaskPool taskPool;
+	//game plays itself (soak runs, F5 in game) - kept across games so runs continue after death
+	@Getter
+	@Setter
+	private boolean autopilot;
+	private SoakMonitor soakMonitor = new SoakMonitor();
+
+	public APirateGame() {
+		this(false);
+	}
+
+	/***
+	 * @param autopilot start straight into a game played by the autopilot
+	 */
+	public APirateGame(boolean autopilot) {
+		this.autopilot = autopilot;
+	}
 
 	public static final boolean DEBUG = false;
+	//optional packed assets (see desktop packAssets task)
+	private static final String ASSET_PACK = "assets.pack";
 
 	@Override
 	public void create () {
+		startupTimer = new PhaseTimer("Startup");
+		//serve assets from a single memory-mapped pack if one has been built
+		PackFiles.install(ASSET_PACK);
+		renderContext = new RenderContext();
+		taskPool = new TaskPool("Loader");
+		debugHUD = new DebugHUD(this);
+		startupTimer.mark("Create render context");
+		//load core textures behind a progress bar
+		setScreen(new LoadingScreen(this));
+	}
+
+	/***
+	 * Called by the LoadingScreen once core assets have loaded.
+	 */
+	public void onAssetsLoaded() {
+		startupTimer.mark("Load core assets");
+		//log texture formats and memory use
+		CompressedTextures.logReport();
 		menuScreen = new MenuScreen(this);
 
 		if (DEBUG) {
 			//if debug, enable lower logging level and launch into game
 			Gdx.app.setLogLevel(Application.LOG_DEBUG);
-			GameInstance gameInstance = new GameInstance(this);
-			gameInstance.start(false);
+			newGame().start(false);
+		} else if (autopilot) {
+			//unattended - skip the menu
+			newGame().start(false);
 		} else {
 			setScreen(menuScreen);
 		}
 	}
 
+	/***
+	 * Create a new game, disposing the previous one.
+	 * Shared resources (e.g. map caches) carry over, as the new game acquires them first.
+	 * @return new game instance (not started)
+	 */
+	public GameInstance newGame() {
+		GameInstance previous = gameInstance;
+		gameInstance = new GameInstance(this);
+		if (previous != null) {
+			//previous game's screens may still be mid-frame (e.g. end screen button)
+			Gdx.app.postRunnable(() -> {
+				previous.dispose();
+				Gdx.app.log("APirateGame", "Disposed previous game. Live scopes: " + ResourceScope.getLiveScopes()
+						+ ", shared resources: " + ResourceScope.getSharedCount());
+			});
+		}
+		return gameInstance;
+	}
+
+	@Override
+	public void render () {
+		if (screen != null) {
+			float delta = idleRenderController.update(screen, Gdx.graphics.getDeltaTime());
+			screen.render(delta);
+			debugHUD.update(delta);
+			if (autopilot) {
+				soakMonitor.update(gameInstance);
+			}
+		}
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		if (gameInstance != null) {
+			gameInstance.dispose();
+		}
+		StyleManager.dispose();
+		debugHUD.dispose();
+		renderContext.dispose();
+		taskPool.dispose();
+	}
+
 }
@@ -2,37 +2,61 @@ package uk.ac.york.sepr4;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
 import com.badlogic.gdx.maps.tiled.TmxMapLoader;
-import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
 import lombok.Data;
 import uk.ac.york.sepr4.hud.MessageHUD;
 import uk.ac.york.sepr4.hud.PauseHUD;
 import uk.ac.york.sepr4.hud.StatsHUD;
 import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.WorldSimulation;
 import uk.ac.york.sepr4.object.building.BuildingManager;
 import uk.ac.york.sepr4.object.crew.CrewBank;
 import uk.ac.york.sepr4.object.entity.EntityManager;
 import uk.ac.york.sepr4.object.item.RewardManager;
+import uk.ac.york.sepr4.render.CachedTiledMapRenderer;
+import uk.ac.york.sepr4.render.MapOverview;
+import uk.ac.york.sepr4.render.RenderContext;
+import uk.ac.york.sepr4.replay.InputLog;
 import uk.ac.york.sepr4.screen.HowToPlayScreen;
 import uk.ac.york.sepr4.screen.PirateScreen;
 import uk.ac.york.sepr4.screen.SailScreen;
 import uk.ac.york.sepr4.screen.TransitionScreen;
+import uk.ac.york.sepr4.utils.PhaseTimer;
+import uk.ac.york.sepr4.utils.RandomStreams;
+import uk.ac.york.sepr4.utils.ResourceScope;
+import uk.ac.york.sepr4.utils.ResourceTracker;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Set;
 
 @Data
-public class GameInstance {
+public class GameInstance implements Disposable {
+
+    private static final String MAP_PATH = "map/PirateMap.tmx";
+    //input of the last game, for headless replays (see desktop replay task)
+    private static final String REPLAY_PATH = "replays/last.replay";
 
-    public static GameInstance INSTANCE;
     private APirateGame game;
+    private RenderContext renderContext;
     private SailScreen sailScreen;
 
-    private PirateMap pirateMap;
-    private TiledMapRenderer tiledMapRenderer;
-
-    private CrewBank crewBank;
-    private RewardManager itemManager;
-    private EntityManager entityManager;
-    private BuildingManager buildingManager;
+    //gameplay state (sim module) - this instance adds the screens and renderers around it
+    private World world;
+    private CachedTiledMapRenderer tiledMapRenderer;
+    private MapOverview mapOverview;
 
     private StatsHUD statsHUD;
     private MessageHUD messageHUD;
@@ -40,26 +64,94 @@ public class GameInstance {
 
     private boolean paused = false;
 
+    //resources disposed with this instance. Map, map caches and overview are shared with the next game
+    private ResourceScope resources = new ResourceScope("GameInstance");
+
     public GameInstance(APirateGame game) {
         this.game = game;
-        INSTANCE = this;
+        this.renderContext = game.getRenderContext();
+
+        PhaseTimer timer = new PhaseTimer("GameInstance");
+        TaskPool taskPool = game.getTaskPool();
+
+        // Locate and set up tile map (collision/spawn data from cooked sidecar if up to date).
+        // Tile scans, polygon transforms and the collision grid run on the task pool from here.
+        TiledMap tiledMap = resources.acquire(MAP_PATH, GameInstance::loadTiledMap);
+        PirateMap pirateMap = PirateMap.load(Gdx.files.internal(MAP_PATH), tiledMap, taskPool);
+        timer.mark("Load TMX");
+        // Building files are parsed on the task pool too. Game managers are created with the world.
+        // The seed is logged so a game can be replayed.
+        long seed = TimeUtils.millis();
+        Gdx.app.log("GameInstance", "World seed: " + seed);
+        this.world = new World(pirateMap, taskPool, seed);
+
+        // GL work overlaps with the tasks above. Static layers are baked into cached chunks.
+        tiledMapRenderer = resources.acquire(MAP_PATH + "#renderer", () -> new CachedTiledMapRenderer(tiledMap, 1 / 2f,
+                renderContext.getBatch()));
+        // Pre-rendered overview used when zoomed out.
+        mapOverview = resources.acquire(MAP_PATH + "#overview", () -> new MapOverview(tiledMap, tiledMapRenderer, 1 / 2f));
+        timer.mark("Bake map caches");
+
+        // Wait for preprocessing (needed from the first SailScreen frame).
+        world.join();
+        // Record input from the first step so the game can be replayed.
+        world.startRecording();
+        timer.mark("Join preprocessing");
 
-        // Locate and set up tile map.
-        pirateMap = new PirateMap(new TmxMapLoader().load("map/PirateMap.tmx"));
-        tiledMapRenderer = new OrthogonalTiledMapRenderer(pirateMap.getTiledMap(), 1 / 2f);
+        // Create HUDs (display for xp, gold, etc..)
+        this.statsHUD = resources.own(new StatsHUD(this));
+        this.messageHUD = resources.own(new MessageHUD(this));
+        this.pauseHUD = resources.own(new PauseHUD(this));
 
-        // Initialize game managers
-        this.crewBank = new CrewBank();
-        this.itemManager = new RewardManager();
-        this.entityManager = new EntityManager(this);
-        this.buildingManager = new BuildingManager(this);
+        sailScreen = resources.own(new SailScreen(this));
+        timer.mark("Create screens and HUDs");
+    }
 
-        // Create HUDs (display for xp, gold, etc..)
-        this.statsHUD = new StatsHUD(this);
-        this.messageHUD = new MessageHUD(this);
-        this.pauseHUD = new PauseHUD(this);
+    /***
+     * Load the tile map, tracking its tileset textures (owned and disposed by the map).
+     * @return loaded map
+     */
+    private static TiledMap loadTiledMap() {
+        TiledMap tiledMap = new TmxMapLoader().load(MAP_PATH);
+        Set<Texture> textures = new HashSet<>();
+        for (TiledMapTileSet tileSet : tiledMap.getTileSets()) {
+            for (TiledMapTile tile : tileSet) {
+                textures.add(tile.getTextureRegion().getTexture());
+            }
+        }
+        for (Texture texture : textures) {
+            ResourceTracker.track(MAP_PATH, texture);
+        }
+        return tiledMap;
+    }
+
+    //world accessors - kept here for screens and HUDs
+    public PirateMap getPirateMap() {
+        return world.getPirateMap();
+    }
+
+    public BuildingManager getBuildingManager() {
+        return world.getBuildingManager();
+    }
+
+    public CrewBank getCrewBank() {
+        return world.getCrewBank();
+    }
+
+    public RewardManager getItemManager() {
+        return world.getItemManager();
+    }
+
+    public EntityManager getEntityManager() {
+        return world.getEntityManager();
+    }
+
+    public WorldSimulation getWorldSimulation() {
+        return world.getWorldSimulation();
+    }
 
-        sailScreen = new SailScreen(this);
+    public RandomStreams getRandom() {
+        return world.getRandom();
     }
 
     /***
@@ -75,13 +167,23 @@ public class GameInstance {
             switchScreen(sailScreen);
         }
 
-        //DEBUG - add crew members to player by default
+        //DEBUG - add crew members to player by default (recorded, so replays start with them too)
         if(game.DEBUG) {
-            entityManager.getOrCreatePlayer().addCrewMember(crewBank.getCrewFromID(1).get());
-            entityManager.getOrCreatePlayer().addCrewMember(crewBank.getCrewFromID(2).get());
-            entityManager.getOrCreatePlayer().addCrewMember(crewBank.getCrewFromID(3).get());
-            entityManager.getOrCreatePlayer().addCrewMember(crewBank.getCrewFromID(4).get());
-            entityManager.getOrCreatePlayer().addCrewMember(crewBank.getCrewFromID(5).get());
+            for (int id = 1; id <= 5; id++) {
+                getEntityManager().getOrCreatePlayer().addCrewMember(getCrewBank().getCrewFromID(id).get());
+                world.recordInput(InputLog.Event.ADD_CREW, id);
+            }
+        }
+    }
+
+    /***
+     * Pause or resume the game. Pause menu values are refreshed once on pausing.
+     * @param paused whether game should be paused
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+        if (paused) {
+            pauseHUD.refresh();
         }
     }
 
@@ -114,4 +216,30 @@ public class GameInstance {
         fadeSwitchScreen(fadeIn, false);
     }
 
+    /***
+     * Dispose this instance's screens and HUDs, and release shared map resources.
+     * Must not be called while one of its screens is showing (see APirateGame.newGame).
+     */
+    @Override
+    public void dispose() {
+        saveReplay();
+        resources.dispose();
+    }
+
+    /***
+     * Write this game's seed and input to the replay file (a failed write only loses the replay).
+     */
+    private void saveReplay() {
+        world.stopRecording().ifPresent(log -> {
+            FileHandle file = Gdx.files.local(REPLAY_PATH);
+            try (OutputStream out = new BufferedOutputStream(file.write(false))) {
+                log.write(out);
+                Gdx.app.log("GameInstance", "Saved replay of " + log.getSteps() + " steps (" + log.size()
+                        + " inputs) to " + REPLAY_PATH);
+            } catch (IOException | GdxRuntimeException e) {
+                Gdx.app.error("GameInstance", "Could not save replay to " + REPLAY_PATH, e);
+            }
+        });
+    }
+
 }
@@ -0,0 +1,104 @@
+package uk.ac.york.sepr4.hud;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import uk.ac.york.sepr4.APirateGame;
+import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.render.CachedTiledMapRenderer;
+import uk.ac.york.sepr4.render.WorldStage;
+import uk.ac.york.sepr4.screen.SailScreen;
+import uk.ac.york.sepr4.utils.ResourceScope;
+import uk.ac.york.sepr4.utils.ResourceTracker;
+
+import java.util.Map;
+
+/***
+ * Debug overlay drawn over every screen.
+ * F3 toggles the overlay (frame rate, culling stats and live resources).
+ * F4 logs the full resource report (by creation site).
+ */
+public class DebugHUD implements Disposable {
+
+    //time between text refreshes (s)
+    private static final float REFRESH_INTERVAL = 0.5f;
+
+    private APirateGame game;
+    private BitmapFont font;
+    private Matrix4 projection = new Matrix4();
+
+    private boolean visible = false;
+    private float sinceRefresh = REFRESH_INTERVAL;
+    private String text = "";
+
+    public DebugHUD(APirateGame game) {
+        this.game = game;
+        this.font = ResourceTracker.track("DebugHUD", new BitmapFont());
+    }
+
+    /***
+     * Handle debug keys and draw the overlay if visible. Called after the screen has rendered.
+     * @param delta time since last render
+     */
+    public void update(float delta) {
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            visible = !visible;
+            sinceRefresh = REFRESH_INTERVAL;
+        }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F4)) {
+            ResourceTracker.logReport();
+        }
+        if (!visible) {
+            return;
+        }
+
+        sinceRefresh += delta;
+        if (sinceRefresh >= REFRESH_INTERVAL) {
+            sinceRefresh = 0;
+            text = createText();
+        }
+
+        SpriteBatch batch = game.getRenderContext().getBatch();
+        projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.draw(batch, text, 10, Gdx.graphics.getHeight() - 10);
+        batch.end();
+    }
+
+    private String createText() {
+        StringBuilder builder = new StringBuilder();
+        Runtime runtime = Runtime.getRuntime();
+        builder.append("FPS: ").append(Gdx.graphics.getFramesPerSecond())
+                .append("  Heap: ").append((runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024)).append(" MB")
+                .append("  Native heap: ").append(Gdx.app.getNativeHeap() / (1024 * 1024)).append(" MB\n");
+
+        if (game.getScreen() instanceof SailScreen) {
+            WorldStage worldStage = ((SailScreen) game.getScreen()).getWorldStage();
+            GameInstance gameInstance = game.getGameInstance();
+            CachedTiledMapRenderer renderer = gameInstance.getTiledMapRenderer();
+            builder.append("Actors drawn: ").append(worldStage.getDrawn())
+                    .append(" culled: ").append(worldStage.getCulled())
+                    .append("  Map chunks: ").append(renderer.getChunksDrawn())
+                    .append("/").append(renderer.getChunksTotal()).append("\n");
+        }
+
+        builder.append("Scopes: ").append(ResourceScope.getLiveScopes())
+                .append("  Shared: ").append(ResourceScope.getSharedCount()).append("\n");
+        for (Map.Entry<ResourceTracker.Category, ResourceTracker.Totals> category
+                : ResourceTracker.getTotalsByCategory().entrySet()) {
+            builder.append(category.getKey()).append(": ").append(category.getValue().getCount())
+                    .append(" (").append(category.getValue().getBytes() / 1024).append(" KB)\n");
+        }
+        builder.append("F4: log resource report");
+        return builder.toString();
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+}
@@ -1,14 +1,15 @@
 package uk.ac.york.sepr4.hud;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.ProgressBar;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 import lombok.Getter;
+import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.render.WorldStage;
 
 public class HealthBar extends ProgressBar {
 
@@ -16,7 +17,7 @@ public class HealthBar extends ProgressBar {
     private LivingEntity livingEntity;
 
     /**
-     * Class which handles health bars above living entities
+     * Class which handles health bars above living entities (render view - the entity does not know its bar)
      */
     public HealthBar(LivingEntity livingEntity) {
     //Changed for Assessment 3: improved resolution on HealthBar to accomodate higher health enemies
@@ -46,15 +47,29 @@ public class HealthBar extends ProgressBar {
     public void update() {
         setX(livingEntity.getX());
         //just above
-        setY(livingEntity.getY() + livingEntity.getTexture().getHeight());
+        setY(livingEntity.getY() + livingEntity.getSprite().getHeight());
         setValue((float)(
                 livingEntity.getHealth()
                         /
                         livingEntity.getMaxHealth()));
     }
 
+    /***
+     * Draw above the entity's drawn (interpolated) position rather than its last simulated one.
+     */
+    @Override
+    public void draw(Batch batch, float parentAlpha) {
+        float interpolation = getStage() instanceof WorldStage ? ((WorldStage) getStage()).getInterpolation() : 1;
+        float x = getX(), y = getY();
+        setPosition(livingEntity.getRenderX(interpolation),
+                livingEntity.getRenderY(interpolation) + livingEntity.getSprite().getHeight());
+        super.draw(batch, parentAlpha);
+        setPosition(x, y);
+    }
+
     /**
      * Creates an image of determined size filled with determined color.
+     * Uses the shared pixel texture (tinted), so health bars own no textures.
      *
      * @param width of an image.
      * @param height of an image.
@@ -62,13 +77,9 @@ public class HealthBar extends ProgressBar {
      * @return {@link Drawable} of determined size filled with determined color.
      */
     private static Drawable getColoredDrawable(int width, int height, Color color) {
-        Pixmap pixmap = new Pixmap(width, height, Pixmap.Format.RGBA8888);
-        pixmap.setColor(color);
-        pixmap.fill();
-
-        TextureRegionDrawable drawable = new TextureRegionDrawable(new TextureRegion(new Texture(pixmap)));
-
-        pixmap.dispose();
+        Drawable drawable = new TextureRegionDrawable(new TextureRegion(FileManager.PIXEL)).tint(color);
+        drawable.setMinWidth(width);
+        drawable.setMinHeight(height);
 
         return drawable;
     }
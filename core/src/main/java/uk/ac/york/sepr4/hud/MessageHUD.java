@@ -7,17 +7,19 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Value;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import lombok.Getter;
 import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.object.building.Building;
 import uk.ac.york.sepr4.object.building.Department;
 import uk.ac.york.sepr4.object.building.MinigameBuilding;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 import uk.ac.york.sepr4.utils.StyleManager;
 
 import java.util.Optional;
 
-public class MessageHUD {
+public class MessageHUD implements Disposable {
 
     private GameInstance gameInstance;
 
@@ -42,7 +44,9 @@ public class MessageHUD {
         float w = Gdx.graphics.getWidth();
         float h = Gdx.graphics.getHeight();
 
-        stage = new Stage(new FitViewport(w, h, new OrthographicCamera()));
+        stage = ResourceTracker.track(ResourceTracker.Category.STAGE, "MessageHUD",
+                new Stage(new FitViewport(w, h, new OrthographicCamera()),
+                        gameInstance.getRenderContext().getBatch()), 0);
 
         createTable();
     }
@@ -84,4 +88,8 @@ public class MessageHUD {
         stage.draw();
     }
 
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
 }
@@ -0,0 +1,147 @@
+package uk.ac.york.sepr4.hud;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.utils.Disposable;
+import lombok.Getter;
+import lombok.Setter;
+import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.object.building.College;
+import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.render.MapIcons;
+import uk.ac.york.sepr4.render.MapOverview;
+import uk.ac.york.sepr4.utils.ResourceTracker;
+
+/***
+ * Live minimap centred on the player.
+ *
+ * The static map is composited once into a small base buffer. At a low rate (refreshRate) the area
+ * around the player is copied from it into the display buffer and markers are plotted on top, so
+ * each frame only costs a single textured quad in the HUD.
+ */
+public class Minimap implements Disposable {
+
+    //resolution of the base (whole map) and display buffers
+    private static final int BASE_SIZE = 512, SIZE = 256;
+    //world units shown across the minimap
+    private static final float AREA = 5000f;
+    //marker size in minimap pixels
+    private static final float MARKER_SIZE = 6f;
+
+    private GameInstance gameInstance;
+    private Batch batch;
+    private OrthographicCamera camera = new OrthographicCamera();
+
+    private FrameBuffer baseBuffer, displayBuffer;
+    private TextureRegion baseRegion;
+    private float mapWidth, mapHeight;
+
+    @Getter
+    private Image image;
+
+    //redraws per second
+    @Getter
+    @Setter
+    private float refreshRate = 5f;
+    private float sinceRefresh = Float.MAX_VALUE;
+
+    public Minimap(GameInstance gameInstance) {
+        this.gameInstance = gameInstance;
+        this.batch = gameInstance.getRenderContext().getBatch();
+        MapOverview mapOverview = gameInstance.getMapOverview();
+        mapWidth = mapOverview.getWidth();
+        mapHeight = mapOverview.getHeight();
+
+        //composite static map once
+        baseBuffer = ResourceTracker.track("Minimap base",
+                new FrameBuffer(Pixmap.Format.RGB888, BASE_SIZE, BASE_SIZE, false), false);
+        camera.setToOrtho(false, mapWidth, mapHeight);
+        camera.update();
+        baseBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        mapOverview.draw(batch);
+        batch.end();
+        baseBuffer.end();
+        baseBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        baseRegion = new TextureRegion(baseBuffer.getColorBufferTexture());
+        baseRegion.flip(false, true);
+
+        displayBuffer = ResourceTracker.track("Minimap display",
+                new FrameBuffer(Pixmap.Format.RGB888, SIZE, SIZE, false), false);
+        TextureRegion displayRegion = new TextureRegion(displayBuffer.getColorBufferTexture());
+        displayRegion.flip(false, true);
+        image = new Image(displayRegion);
+        image.setSize(SIZE, SIZE);
+    }
+
+    /***
+     * Redraw the minimap if enough time has passed since the last refresh.
+     * @param delta time since last render
+     */
+    public void update(float delta) {
+        sinceRefresh += delta;
+        if (sinceRefresh < 1 / refreshRate) {
+            return;
+        }
+        sinceRefresh = 0;
+        redraw();
+    }
+
+    private void redraw() {
+        Player player = gameInstance.getEntityManager().getOrCreatePlayer();
+        Vector2 centre = player.getCentre();
+        Rectangle area = new Rectangle(centre.x - AREA / 2, centre.y - AREA / 2, AREA, AREA);
+        float markerSize = MARKER_SIZE * AREA / SIZE;
+
+        camera.setToOrtho(false, AREA, AREA);
+        camera.position.set(centre.x, centre.y, 0);
+        camera.update();
+
+        displayBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        batch.draw(baseRegion, 0, 0, mapWidth, mapHeight);
+
+        for (College college : gameInstance.getBuildingManager().getColleges()) {
+            Vector2 pos = college.getMapLocation();
+            if (area.contains(pos)) {
+                batch.setColor(MapIcons.getColour(college, player));
+                batch.draw(FileManager.PIXEL, pos.x - markerSize, pos.y - markerSize, markerSize * 2, markerSize * 2);
+            }
+        }
+        //only entities near the player are queried
+        for (LivingEntity livingEntity : gameInstance.getEntityManager().getLivingEntitiesInArea(area)) {
+            if (livingEntity.isDead()) {
+                continue;
+            }
+            Vector2 pos = livingEntity.getCentre();
+            batch.setColor(MapIcons.getColour(livingEntity));
+            batch.draw(FileManager.PIXEL, pos.x - markerSize / 2, pos.y - markerSize / 2, markerSize, markerSize);
+        }
+        batch.setColor(1, 1, 1, 1);
+        batch.end();
+        displayBuffer.end();
+    }
+
+    @Override
+    public void dispose() {
+        baseBuffer.dispose();
+        displayBuffer.dispose();
+    }
+}
@@ -11,6 +11,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.ui.Value;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import lombok.Getter;
 import uk.ac.york.sepr4.GameInstance;
@@ -18,9 +19,10 @@ import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.object.building.College;
 import uk.ac.york.sepr4.object.crew.CrewMember;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 import uk.ac.york.sepr4.utils.StyleManager;
 
-public class PauseHUD {
+public class PauseHUD implements Disposable {
     private GameInstance gameInstance;
     @Getter
     private Stage stage;
@@ -36,11 +38,11 @@ public class PauseHUD {
         float w = Gdx.graphics.getWidth();
         float h = Gdx.graphics.getHeight();
 
-        stage = new Stage(new FitViewport(w, h, new OrthographicCamera()));
+        stage = ResourceTracker.track(ResourceTracker.Category.STAGE, "PauseHUD",
+                new Stage(new FitViewport(w, h, new OrthographicCamera()),
+                        gameInstance.getRenderContext().getBatch()), 0);
 
-        createTable();
-        createControlsTable();
-        createCrewTable();
+        refresh();
     }
 
     /***
@@ -158,7 +160,9 @@ public class PauseHUD {
      * Draw pause HUD's background overlay.
      */
     private void drawPauseOverlay() {
-        //sets background texture
+        //sets background texture (batch is shared - set projection)
+        stage.getCamera().update();
+        stage.getBatch().setProjectionMatrix(stage.getCamera().combined);
         stage.getBatch().begin();
         Texture texture = FileManager.pauseScreenBG;
         texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
@@ -168,18 +172,28 @@ public class PauseHUD {
     }
 
     /***
-     * Update label values - called during stage render
+     * Rebuild tables from current values - called once when the game is paused.
      */
-    public void update() {
+    public void refresh() {
         stage.clear();
 
         createTable();
         createControlsTable();
         createCrewTable();
+    }
+
+    /***
+     * Draw overlay and tables - called during stage render
+     */
+    public void update() {
         drawPauseOverlay();
 
         stage.act();
         stage.draw();
     }
 
+    @Override
+    public void dispose() {
+        stage.dispose();
+    }
 }
@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.Value;
 import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import lombok.Getter;
@@ -16,11 +17,12 @@ import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.object.building.Building;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 import uk.ac.york.sepr4.utils.StyleManager;
 
 import java.util.Optional;
 
-public class StatsHUD {
+public class StatsHUD implements Disposable {
 
     private GameInstance gameInstance;
     @Getter
@@ -32,6 +34,9 @@ public class StatsHUD {
     private Image hudLocation, gameMap;
     private boolean showingMap;
 
+    @Getter
+    private Minimap minimap;
+
     @Getter
     private Table table;
 
@@ -47,10 +52,22 @@ public class StatsHUD {
         float w = Gdx.graphics.getWidth();
         float h = Gdx.graphics.getHeight();
 
-        stage = new Stage(new FitViewport(w, h, new OrthographicCamera()));
+        stage = ResourceTracker.track(ResourceTracker.Category.STAGE, "StatsHUD",
+                new Stage(new FitViewport(w, h, new OrthographicCamera()),
+                        gameInstance.getRenderContext().getBatch()), 0);
 
         createHUD();
         setGameMap();
+        setMinimap();
+    }
+
+    private void setMinimap() {
+        //live minimap in bottom right corner
+        minimap = new Minimap(gameInstance);
+        Image minimapImage = minimap.getImage();
+        minimapImage.setX(Gdx.graphics.getWidth() - minimapImage.getWidth() - 20);
+        minimapImage.setY(20);
+        stage.addActor(minimapImage);
     }
 
     private void setGameMap() {
@@ -126,6 +143,7 @@ public class StatsHUD {
     public void toggleMap(boolean val) {
         showingMap = val;
         gameMap.setVisible(val);
+        minimap.getImage().setVisible(!val);
     }
 
     /***
@@ -149,9 +167,18 @@ public class StatsHUD {
             hudLocation.setVisible(false);
         }
 
+        if(!showingMap) {
+            minimap.update(Gdx.graphics.getDeltaTime());
+        }
+
         stage.act();
         stage.draw();
 
     }
 
+    @Override
+    public void dispose() {
+        stage.dispose();
+        minimap.dispose();
+    }
 }
@@ -0,0 +1,127 @@
+package uk.ac.york.sepr4.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/***
+ * Read-only archive of asset files (see AssetPackWriter), memory mapped as a single file.
+ *
+ * Layout: magic, version, entry count, then an index of (path, offset, length) followed by the
+ * file data. Paths are relative to the assets directory and use '/' separators.
+ * The mapped buffer is never modified, so entries can be read from any thread.
+ */
+public class AssetPack {
+
+    public static final int MAGIC = 0x4150414B; //"APAK"
+    public static final int VERSION = 1;
+
+    private ByteBuffer data;
+    private Map<String, Entry> entries = new HashMap<>();
+    private Set<String> directories = new HashSet<>();
+
+    /***
+     * Map a pack file and read its index.
+     * @param file pack file
+     * @return opened pack
+     * @throws IOException if the file can not be read or is not a pack
+     */
+    public static AssetPack open(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            //mapping stays valid after the channel is closed
+            return new AssetPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public AssetPack(ByteBuffer data) throws IOException {
+        this.data = data;
+        ByteBuffer index = data.duplicate();
+        if (index.getInt() != MAGIC || index.getInt() != VERSION) {
+            throw new IOException("Not an asset pack (or old version)");
+        }
+        int count = index.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[index.getShort() & 0xFFFF];
+            index.get(name);
+            String path = new String(name, StandardCharsets.UTF_8);
+            entries.put(path, new Entry(index.getLong(), index.getInt()));
+
+            //record parent directories so handles can be listed and navigated
+            for (int slash = path.lastIndexOf('/'); slash > 0; slash = path.lastIndexOf('/', slash - 1)) {
+                directories.add(path.substring(0, slash));
+            }
+        }
+        directories.add("");
+    }
+
+    public boolean isFile(String path) {
+        return entries.containsKey(path);
+    }
+
+    public boolean isDirectory(String path) {
+        return directories.contains(path);
+    }
+
+    /***
+     * Get the contents of a file.
+     * @param path path in pack
+     * @return read-only buffer over the file data (position 0), or null if not in the pack
+     */
+    public ByteBuffer get(String path) {
+        Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+        //duplicate so the shared buffer's position/limit are never changed
+        ByteBuffer slice = data.duplicate();
+        slice.limit((int) entry.offset + entry.length);
+        slice.position((int) entry.offset);
+        return slice.slice().asReadOnlyBuffer();
+    }
+
+    public int length(String path) {
+        Entry entry = entries.get(path);
+        return entry == null ? 0 : entry.length;
+    }
+
+    /***
+     * List the files and directories directly inside a directory.
+     * @param directory directory path ("" for the root)
+     * @return child paths
+     */
+    public List<String> list(String directory) {
+        String prefix = directory.isEmpty() ? "" : directory + "/";
+        Set<String> children = new HashSet<>();
+        for (String path : entries.keySet()) {
+            if (path.startsWith(prefix)) {
+                int slash = path.indexOf('/', prefix.length());
+                children.add(slash < 0 ? path : path.substring(0, slash));
+            }
+        }
+        return new ArrayList<>(children);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private long offset;
+        private int length;
+
+        private Entry(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
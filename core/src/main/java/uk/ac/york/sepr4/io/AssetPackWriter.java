@@ -0,0 +1,87 @@
+package uk.ac.york.sepr4.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/***
+ * Build tool: packs an assets directory into a single AssetPack file.
+ * Run by the desktop packAssets Gradle task. Usage: AssetPackWriter assetsDir output
+ */
+public class AssetPackWriter {
+
+    //editor/source files that are never loaded by the game
+    private static final String[] EXCLUDED = {".xcf", ".zip", ".psd"};
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetPackWriter assetsDir output");
+            System.exit(1);
+        }
+        File output = new File(args[1]);
+        int count = write(new File(args[0]), output);
+        System.out.println("Packed " + count + " files into " + output.getPath() + " (" + output.length() + " bytes)");
+    }
+
+    /***
+     * Pack every file under a directory.
+     * @param assetsDir directory to pack
+     * @param output pack file to write (skipped if inside assetsDir)
+     * @return number of files packed
+     */
+    public static int write(File assetsDir, File output) throws IOException {
+        Path root = assetsDir.toPath().toAbsolutePath().normalize();
+        Path outputPath = output.toPath().toAbsolutePath().normalize();
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(path -> !path.equals(outputPath) && !isExcluded(path))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        //index size is needed to know where the file data starts
+        long offset = 12;
+        byte[][] names = new byte[files.size()][];
+        for (int i = 0; i < files.size(); i++) {
+            names[i] = root.relativize(files.get(i)).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8);
+            offset += 2 + names[i].length + 8 + 4;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+            out.writeInt(AssetPack.MAGIC);
+            out.writeInt(AssetPack.VERSION);
+            out.writeInt(files.size());
+            for (int i = 0; i < files.size(); i++) {
+                long length = Files.size(files.get(i));
+                out.writeShort(names[i].length);
+                out.write(names[i]);
+                out.writeLong(offset);
+                out.writeInt((int) length);
+                offset += length;
+            }
+            for (Path file : files) {
+                Files.copy(file, out);
+            }
+        }
+        return files.size();
+    }
+
+    private static boolean isExcluded(Path path) {
+        String name = path.getFileName().toString().toLowerCase();
+        for (String extension : EXCLUDED) {
+            if (name.endsWith(extension)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
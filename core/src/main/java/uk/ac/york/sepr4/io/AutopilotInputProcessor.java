@@ -0,0 +1,127 @@
+package uk.ac.york.sepr4.io;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+import uk.ac.york.sepr4.APirateGame;
+import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.bot.Autopilot;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.utils.AIUtil;
+
+/***
+ * Lets the game play itself for soak runs. F5 toggles the autopilot (or start with DesktopLauncher --autopilot).
+ *
+ * Sits in front of the Player in SailScreen's input. While the autopilot is on, human sailing input is ignored
+ * and the Autopilot's key presses and shots go to the Player and SailInputProcessor, as if typed and clicked.
+ */
+public class AutopilotInputProcessor implements InputProcessor, Autopilot.Controls {
+
+    //distance from the player of the point clicked to fire
+    private static final float CLICK_DISTANCE = 200f;
+
+    private GameInstance gameInstance;
+    private SailInputProcessor sailInputProcessor;
+    private Autopilot autopilot;
+
+    public AutopilotInputProcessor(GameInstance gameInstance, SailInputProcessor sailInputProcessor) {
+        this.gameInstance = gameInstance;
+        this.sailInputProcessor = sailInputProcessor;
+        this.autopilot = new Autopilot(gameInstance.getWorld(), this);
+    }
+
+    /***
+     * Let the autopilot act, if on. Called before each simulation step.
+     * @param step length of step (s)
+     */
+    public void update(float step) {
+        if (gameInstance.getGame().isAutopilot()) {
+            autopilot.update(step);
+        }
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        APirateGame game = gameInstance.getGame();
+        if (keycode == Input.Keys.F5) {
+            game.setAutopilot(!game.isAutopilot());
+            if (!game.isAutopilot()) {
+                //hand back control with no keys held
+                autopilot.releaseAll();
+            }
+            Gdx.app.log("Autopilot", game.isAutopilot() ? "On" : "Off");
+            return true;
+        }
+        return game.isAutopilot() && isSailingKey(keycode);
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        return gameInstance.getGame().isAutopilot() && isSailingKey(keycode);
+    }
+
+    private boolean isSailingKey(int keycode) {
+        return keycode == Input.Keys.W || keycode == Input.Keys.A || keycode == Input.Keys.S || keycode == Input.Keys.D;
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        return false;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        //the autopilot does the shooting
+        return gameInstance.getGame().isAutopilot();
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        return false;
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        return false;
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        return false;
+    }
+
+    @Override
+    public boolean scrolled(int amount) {
+        return false;
+    }
+
+    //Autopilot controls - sent past this processor, straight to the handlers a human would reach
+    @Override
+    public void press(int keycode) {
+        if (!gameInstance.getEntityManager().getOrCreatePlayer().keyDown(keycode)) {
+            sailInputProcessor.keyDown(keycode);
+        }
+    }
+
+    @Override
+    public void release(int keycode) {
+        if (!gameInstance.getEntityManager().getOrCreatePlayer().keyUp(keycode)) {
+            sailInputProcessor.keyUp(keycode);
+        }
+    }
+
+    @Override
+    public void fire(float angle) {
+        //click a point at the angle from the player (SailInputProcessor works the angle back out)
+        Player player = gameInstance.getEntityManager().getOrCreatePlayer();
+        Vector2 centre = player.getCentre();
+        Vector3 click = gameInstance.getSailScreen().getOrthographicCamera().project(new Vector3(
+                AIUtil.getXwithAngleandDistance(centre.x, angle, CLICK_DISTANCE),
+                AIUtil.getYwithAngleandDistance(centre.y, angle, CLICK_DISTANCE), 0));
+        //projected y is up from the bottom, touch y is down from the top
+        sailInputProcessor.touchDown(Math.round(click.x), Gdx.graphics.getHeight() - 1 - Math.round(click.y),
+                0, Input.Buttons.LEFT);
+    }
+}
@@ -0,0 +1,109 @@
+package uk.ac.york.sepr4.io;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/***
+ * Loads large textures from GPU-compressed sidecars when the device supports them.
+ *
+ * For an image "x.png" the loader looks for "x.etc2.zktx" (ETC2, needs GL ES 3 compatibility) then
+ * "x.etc1.zktx" (ETC1) next to it, falling back to the RGBA PNG. Sidecars are generated by the
+ * desktop compressTextures Gradle task.
+ * Every texture loaded through this class is recorded for the memory report.
+ */
+public class CompressedTextures {
+
+    private static final String ETC2_SUFFIX = ".etc2.zktx", ETC1_SUFFIX = ".etc1.zktx";
+
+    private static List<Entry> loaded = new ArrayList<>();
+
+    /***
+     * Get the best file to load for an image on this device.
+     * @param path internal path of the PNG
+     * @return path of compressed sidecar if present and supported, otherwise the PNG path
+     */
+    public static String resolve(String path) {
+        String base = path.substring(0, path.lastIndexOf('.'));
+        if (supportsETC2() && Gdx.files.internal(base + ETC2_SUFFIX).exists()) {
+            return base + ETC2_SUFFIX;
+        }
+        if (supportsETC1() && Gdx.files.internal(base + ETC1_SUFFIX).exists()) {
+            return base + ETC1_SUFFIX;
+        }
+        return path;
+    }
+
+    /***
+     * Load a texture, preferring a supported compressed sidecar.
+     * @param path internal path of the PNG
+     * @return loaded texture
+     */
+    public static Texture load(String path) {
+        FileHandle file = Gdx.files.internal(resolve(path));
+        Texture texture = new Texture(file);
+        record(path, file.name(), texture);
+        return texture;
+    }
+
+    /***
+     * Record a texture for the memory report.
+     * @param path requested path
+     * @param loadedFrom name of file actually loaded
+     * @param texture loaded texture
+     */
+    public static void record(String path, String loadedFrom, Texture texture) {
+        loaded.add(new Entry(path, loadedFrom, texture.getWidth(), texture.getHeight(), estimateBytes(loadedFrom, texture)));
+    }
+
+    /***
+     * Estimate VRAM used by a texture.
+     * ETC1/ETC2 RGB use 4 bits per pixel, uncompressed textures are uploaded as 32 bit RGBA.
+     */
+    static long estimateBytes(String loadedFrom, Texture texture) {
+        long pixels = (long) texture.getWidth() * texture.getHeight();
+        if (loadedFrom.endsWith(ETC1_SUFFIX) || loadedFrom.endsWith(ETC2_SUFFIX)) {
+            return pixels / 2;
+        }
+        return pixels * 4;
+    }
+
+    public static boolean supportsETC1() {
+        return Gdx.graphics.supportsExtension("GL_OES_compressed_ETC1_RGB8_texture");
+    }
+
+    public static boolean supportsETC2() {
+        return Gdx.graphics.isGL30Available() || Gdx.graphics.supportsExtension("GL_ARB_ES3_compatibility");
+    }
+
+    /***
+     * Log the size, format and estimated memory of every texture loaded through this class.
+     */
+    public static void logReport() {
+        long total = 0;
+        for (Entry entry : loaded) {
+            Gdx.app.log("TextureReport", String.format("%-40s %-28s %5dx%-5d %8d KB",
+                    entry.path, entry.loadedFrom, entry.width, entry.height, entry.bytes / 1024));
+            total += entry.bytes;
+        }
+        Gdx.app.log("TextureReport", "Total: " + loaded.size() + " textures, " + (total / 1024) + " KB"
+                + " (ETC1: " + supportsETC1() + ", ETC2: " + supportsETC2() + ")");
+    }
+
+    private static class Entry {
+        private String path, loadedFrom;
+        private int width, height;
+        private long bytes;
+
+        private Entry(String path, String loadedFrom, int width, int height, long bytes) {
+            this.path = path;
+            this.loadedFrom = loadedFrom;
+            this.width = width;
+            this.height = height;
+            this.bytes = bytes;
+        }
+    }
+}
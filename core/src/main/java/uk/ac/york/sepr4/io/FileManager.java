@@ -1,9 +1,29 @@
 package uk.ac.york.sepr4.io;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.utils.TimeUtils;
 import lombok.Data;
+import uk.ac.york.sepr4.object.entity.Sprite;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/***
+ * Holds all game textures. Textures are registered with an {@link AssetManager} in groups:
+ * CORE is loaded incrementally behind the LoadingScreen, DEPARTMENT and MINIGAME are loaded
+ * the first time a screen needing them is entered (see {@link #ensureLoaded(AssetGroup)}).
+ * Fields are null until their group has loaded.
+ */
 @Data
 public class FileManager {
 
@@ -14,62 +34,250 @@ public class FileManager {
             hudPath = "images/hud/",
             minigamePath = "images/minigame/";
 
+    public enum AssetGroup {
+        CORE, DEPARTMENT, MINIGAME
+    }
+
+    private static AssetManager assetManager = new AssetManager();
+    private static Map<AssetGroup, List<AssetEntry>> groups = new EnumMap<>(AssetGroup.class);
+    private static Map<String, AssetEntry> entries = new HashMap<>();
+    private static Set<AssetGroup> queued = EnumSet.noneOf(AssetGroup.class), loaded = EnumSet.noneOf(AssetGroup.class);
+
     public static Texture
-            pauseScreenBG = new Texture(Gdx.files.internal(screenPath + "pause.png")),
-            miniGameMenu = new Texture(Gdx.files.internal(screenPath + "minigame.png")),
-            departmentScreenBG = new Texture(Gdx.files.internal(screenPath + "department.png")),
-            mainMenuScreenBG = new Texture(Gdx.files.internal(screenPath + "main_menu.png")),
-            gameLogo = new Texture(Gdx.files.internal(screenPath + "game_logo.png")),
-            teamLogo = new Texture(Gdx.files.internal(screenPath + "team_logo.png")),
+            pauseScreenBG, miniGameMenu, departmentScreenBG, mainMenuScreenBG, gameLogo, teamLogo,
+
+    hudTopLeft, hudTopRight, hudMiddle, hudGold, hudLevel,
+
+    ENEMY, DEAD_ENEMY, COLLEGE_ENEMY, BOSS, PLAYER, CANNONBALL, CANNONBALL_FIRE, KRAKEN_WAVE, LOOT,
+            ORANGEFIRE, REDFIRE, MIDDLEBOATTRAIL1,
+
+    MAP,
+
+    //1x1 white texture - tinted to draw simple shapes (e.g. map icons)
+    PIXEL = createPixel();
+
+    public static Texture MINIGAME_PLAYER_1, MINIGAME_PLAYER_2,
+            MINIGAME_ENEMY_EASY_1, MINIGAME_ENEMY_EASY_2, MINIGAME_ENEMY_MED_1, MINIGAME_ENEMY_MED_2,
+            MINIGAME_ENEMY_HARD_1, MINIGAME_ENEMY_HARD_2, MINIGAME_ENEMY_VHARD_1, MINIGAME_ENEMY_VHARD_2;
 
-    hudTopLeft = new Texture(Gdx.files.internal(hudPath + "hud_tl.png")),
-                    hudTopRight = new Texture(Gdx.files.internal(hudPath + "hud_tr.png")),
-                    hudMiddle = new Texture(Gdx.files.internal(hudPath + "hud_tm.png")),
-                    hudGold = new Texture(Gdx.files.internal(hudPath + "gold.png")),
-                    hudLevel = new Texture(Gdx.files.internal(hudPath + "level.png")),
+    static {
+        register(AssetGroup.CORE, screenPath + "pause.png", t -> pauseScreenBG = t);
+        register(AssetGroup.CORE, screenPath + "main_menu.png", t -> mainMenuScreenBG = t);
+        register(AssetGroup.CORE, screenPath + "game_logo.png", t -> gameLogo = t);
+        register(AssetGroup.CORE, screenPath + "team_logo.png", t -> teamLogo = t);
 
+        register(AssetGroup.CORE, hudPath + "hud_tl.png", t -> hudTopLeft = t);
+        register(AssetGroup.CORE, hudPath + "hud_tr.png", t -> hudTopRight = t);
+        register(AssetGroup.CORE, hudPath + "hud_tm.png", t -> hudMiddle = t);
+        register(AssetGroup.CORE, hudPath + "gold.png", t -> hudGold = t);
+        register(AssetGroup.CORE, hudPath + "level.png", t -> hudLevel = t);
 
-    ENEMY = new Texture(Gdx.files.internal(boatPath + "enemy.png")),
-            DEAD_ENEMY = new Texture(Gdx.files.internal(boatPath + "dead_enemy.png")),
-            COLLEGE_ENEMY = new Texture(Gdx.files.internal(boatPath + "college.png")),
-            BOSS = new Texture(Gdx.files.internal(boatPath + "boss.png")),
-            PLAYER = new Texture(Gdx.files.internal(boatPath + "player.png")),
-            CANNONBALL = new Texture(Gdx.files.internal(spritePath + "cannonball.png")),
-            CANNONBALL_FIRE = new Texture(Gdx.files.internal(spritePath + "cannonball_fire.png")),
-            KRAKEN_WAVE = new Texture(Gdx.files.internal(spritePath + "kraken_wave.png")),
-            LOOT = new Texture(Gdx.files.internal(spritePath + "crew.png")),
-            ORANGEFIRE = new Texture(Gdx.files.internal(spritePath + "fire1.png")),
-            REDFIRE = new Texture(Gdx.files.internal(spritePath + "fire2.png")),
-            MIDDLEBOATTRAIL1 = new Texture(Gdx.files.internal(spritePath + "boat_trail.png")),
+        register(AssetGroup.CORE, boatPath + "enemy.png", t -> ENEMY = t);
+        register(AssetGroup.CORE, boatPath + "dead_enemy.png", t -> DEAD_ENEMY = t);
+        register(AssetGroup.CORE, boatPath + "college.png", t -> COLLEGE_ENEMY = t);
+        register(AssetGroup.CORE, boatPath + "boss.png", t -> BOSS = t);
+        register(AssetGroup.CORE, boatPath + "player.png", t -> PLAYER = t);
+        register(AssetGroup.CORE, spritePath + "cannonball.png", t -> CANNONBALL = t);
+        register(AssetGroup.CORE, spritePath + "cannonball_fire.png", t -> CANNONBALL_FIRE = t);
+        register(AssetGroup.CORE, spritePath + "kraken_wave.png", t -> KRAKEN_WAVE = t);
+        register(AssetGroup.CORE, spritePath + "crew.png", t -> LOOT = t);
+        register(AssetGroup.CORE, spritePath + "fire1.png", t -> ORANGEFIRE = t);
+        register(AssetGroup.CORE, spritePath + "fire2.png", t -> REDFIRE = t);
+        register(AssetGroup.CORE, spritePath + "boat_trail.png", t -> MIDDLEBOATTRAIL1 = t);
 
-    MAP = new Texture(Gdx.files.internal( "map/Map.png"));
+        register(AssetGroup.CORE, "map/Map.png", t -> MAP = t);
 
-    public static Texture deathFrame(int number) {
-        return new Texture(Gdx.files.internal(spritePath + "explosion"+number+".png"));
+        //animation frames (fetched by frame methods below)
+        for (int i = 1; i <= Sprite.DEATH.getFrames(); i++) {
+            register(AssetGroup.CORE, deathFramePath(i), null);
+        }
+        for (int i = 1; i <= Sprite.FIRING.getFrames(); i++) {
+            register(AssetGroup.CORE, firingFramePath(i), null);
+        }
+        for (int i = 1; i <= Sprite.BOAT_FIRE.getFrames(); i++) {
+            register(AssetGroup.CORE, boatFireFramePath(i), null);
+        }
+        for (int i = 1; i <= Sprite.KRAKEN.getFrames(); i++) {
+            register(AssetGroup.CORE, krackenFramePath(i), null);
+        }
+
+        //department screen background is also used by the how to play and minigame screens
+        register(AssetGroup.DEPARTMENT, screenPath + "department.png", t -> departmentScreenBG = t);
+
+        register(AssetGroup.MINIGAME, screenPath + "minigame.png", t -> miniGameMenu = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_holstered.png", t -> MINIGAME_PLAYER_1 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_shooting.png", t -> MINIGAME_PLAYER_2 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_holstered_right_easy.png", t -> MINIGAME_ENEMY_EASY_1 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_shooting_right_easy.png", t -> MINIGAME_ENEMY_EASY_2 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_holstered_right_medium.png", t -> MINIGAME_ENEMY_MED_1 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_shooting_right_medium.png", t -> MINIGAME_ENEMY_MED_2 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_holstered_right_hard.png", t -> MINIGAME_ENEMY_HARD_1 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_shooting_right_hard.png", t -> MINIGAME_ENEMY_HARD_2 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_holstered_right_veryhard.png", t -> MINIGAME_ENEMY_VHARD_1 = t);
+        register(AssetGroup.MINIGAME, minigamePath + "pirate_shooting_right_veryhard.png", t -> MINIGAME_ENEMY_VHARD_2 = t);
     }
 
-    public static Texture firingFrame(int number) {
-        return new Texture(Gdx.files.internal(spritePath + "cannon/frame" + number + ".png"));
+    private static void register(AssetGroup group, String path, Consumer<Texture> setter) {
+        AssetEntry entry = new AssetEntry(path, setter);
+        groups.computeIfAbsent(group, g -> new ArrayList<>()).add(entry);
+        entries.put(path, entry);
     }
 
-    public static Texture boatFireFrame(int number) {
-        return new Texture(Gdx.files.internal(spritePath + "fire_on_boat/frame" + number + ".png"));
+    /***
+     * Queue a group's textures to be loaded (by {@link #update(int)} or {@link #ensureLoaded(AssetGroup)}).
+     * @param group group to queue
+     */
+    public static void queue(AssetGroup group) {
+        if (!queued.add(group)) {
+            return;
+        }
+        for (AssetEntry entry : groups.get(group)) {
+            //use compressed sidecar if supported
+            entry.resolved = CompressedTextures.resolve(entry.path);
+            assetManager.load(entry.resolved, Texture.class);
+        }
     }
 
-    public static Texture krackenFrame(int number) {
-        return new Texture(Gdx.files.internal(spritePath + "kracken_sprite/kr_frame" + number + ".png"));
+    /***
+     * Load queued textures for up to the given time.
+     * @param millis time budget for this call
+     * @return true if all queued textures have loaded
+     */
+    public static boolean update(int millis) {
+        boolean done = assetManager.update(millis);
+        if (done) {
+            assignLoaded();
+        }
+        return done;
     }
 
-    public static Texture MINIGAME_PLAYER_1 = new Texture(Gdx.files.internal(minigamePath + "pirate_holstered.png"));
-    public static Texture MINIGAME_PLAYER_2 = new Texture(Gdx.files.internal(minigamePath + "pirate_shooting.png"));
-    public static Texture MINIGAME_ENEMY_EASY_1 = new Texture(Gdx.files.internal(minigamePath + "pirate_holstered_right_easy.png"));
-    public static Texture MINIGAME_ENEMY_EASY_2 = new Texture(Gdx.files.internal(minigamePath + "pirate_shooting_right_easy.png"));
-    public static Texture MINIGAME_ENEMY_MED_1 = new Texture(Gdx.files.internal(minigamePath + "pirate_holstered_right_medium.png"));
-    public static Texture MINIGAME_ENEMY_MED_2 = new Texture(Gdx.files.internal(minigamePath + "pirate_shooting_right_medium.png"));
-    public static Texture MINIGAME_ENEMY_HARD_1 = new Texture(Gdx.files.internal(minigamePath + "pirate_holstered_right_hard.png"));
-    public static Texture MINIGAME_ENEMY_HARD_2 = new Texture(Gdx.files.internal(minigamePath + "pirate_shooting_right_hard.png"));
-    public static Texture MINIGAME_ENEMY_VHARD_1 = new Texture(Gdx.files.internal(minigamePath + "pirate_holstered_right_veryhard.png"));
-    public static Texture MINIGAME_ENEMY_VHARD_2 = new Texture(Gdx.files.internal(minigamePath + "pirate_shooting_right_veryhard.png"));
+    public static float getProgress() {
+        return assetManager.getProgress();
+    }
+
+    public static boolean isLoaded(AssetGroup group) {
+        return loaded.contains(group);
+    }
+
+    /***
+     * Load a group immediately if it has not been loaded yet (used by screens on first entry).
+     * @param group group to load
+     */
+    public static void ensureLoaded(AssetGroup group) {
+        if (loaded.contains(group)) {
+            return;
+        }
+        long start = TimeUtils.millis();
+        queue(group);
+        assetManager.finishLoading();
+        assignLoaded();
+        Gdx.app.log("FileManager", "Loaded " + group + " assets in " + TimeUtils.timeSinceMillis(start) + "ms");
+    }
+
+    /***
+     * Set fields for groups which have finished loading.
+     */
+    private static void assignLoaded() {
+        for (AssetGroup group : queued) {
+            if (loaded.contains(group)) {
+                continue;
+            }
+            for (AssetEntry entry : groups.get(group)) {
+                Texture texture = assetManager.get(entry.resolved, Texture.class);
+                if (entry.path.startsWith(spritePath)) {
+                    // Stops texture glitches when moving
+                    texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                }
+                CompressedTextures.record(entry.path, entry.resolved, texture);
+                ResourceTracker.track(ResourceTracker.Category.TEXTURE, "FileManager " + group, texture,
+                        CompressedTextures.estimateBytes(entry.resolved, texture));
+                if (entry.setter != null) {
+                    entry.setter.accept(texture);
+                }
+            }
+            loaded.add(group);
+        }
+    }
+
+    private static Texture get(String path) {
+        return assetManager.get(entries.get(path).resolved, Texture.class);
+    }
+
+    private static Texture createPixel() {
+        Pixmap pixmap = ResourceTracker.track(ResourceTracker.Category.PIXMAP, "FileManager pixel",
+                new Pixmap(1, 1, Pixmap.Format.RGBA8888), 4);
+        pixmap.setColor(1, 1, 1, 1);
+        pixmap.fill();
+        Texture texture = ResourceTracker.track("FileManager pixel", new Texture(pixmap));
+        pixmap.dispose();
+        ResourceTracker.release(pixmap);
+        return texture;
+    }
+
+    private static String deathFramePath(int number) {
+        return spritePath + "explosion" + number + ".png";
+    }
+
+    private static String firingFramePath(int number) {
+        return spritePath + "cannon/frame" + number + ".png";
+    }
+
+    private static String boatFireFramePath(int number) {
+        return spritePath + "fire_on_boat/frame" + number + ".png";
+    }
+
+    private static String krackenFramePath(int number) {
+        return spritePath + "kracken_sprite/kr_frame" + number + ".png";
+    }
+
+    /***
+     * Get the texture to draw an entity's sprite with. Animation frames are loaded once and shared.
+     * @param sprite sprite of the entity
+     * @param frame frame of an animated sprite (from 1, ignored otherwise)
+     * @return texture (CORE group must be loaded)
+     */
+    public static Texture getTexture(Sprite sprite, int frame) {
+        switch (sprite) {
+            case PLAYER:
+                return PLAYER;
+            case ENEMY:
+                return ENEMY;
+            case DEAD_ENEMY:
+                return DEAD_ENEMY;
+            case COLLEGE_ENEMY:
+                return COLLEGE_ENEMY;
+            case BOSS:
+                return BOSS;
+            case CANNONBALL:
+                return CANNONBALL;
+            case CANNONBALL_FIRE:
+                return CANNONBALL_FIRE;
+            case KRAKEN_WAVE:
+                return KRAKEN_WAVE;
+            case BOAT_TRAIL:
+                return MIDDLEBOATTRAIL1;
+            case DEATH:
+                return get(deathFramePath(frame));
+            case FIRING:
+                return get(firingFramePath(frame));
+            case BOAT_FIRE:
+                return get(boatFireFramePath(frame));
+            case KRAKEN:
+                return get(krackenFramePath(frame));
+            default:
+                throw new IllegalArgumentException("No texture for sprite " + sprite);
+        }
+    }
+
+    private static class AssetEntry {
+        private String path, resolved;
+        private Consumer<Texture> setter;
+
+        private AssetEntry(String path, Consumer<Texture> setter) {
+            this.path = path;
+            this.setter = setter;
+        }
+    }
 
 
     //Texture Archive
@@ -0,0 +1,156 @@
+package uk.ac.york.sepr4.io;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/***
+ * Internal file handle for a file (or directory) inside an AssetPack.
+ * Reads come straight from the pack's memory map - no file is opened (see mapBuffer).
+ * Navigation (child, sibling, parent) goes back through PackFiles, so files missing from the pack
+ * still resolve to the normal internal files.
+ */
+public class PackFileHandle extends FileHandle implements MappedFile {
+
+    private PackFiles files;
+    private AssetPack pack;
+
+    public PackFileHandle(PackFiles files, AssetPack pack, String path) {
+        super(path, Files.FileType.Internal);
+        this.files = files;
+        this.pack = pack;
+    }
+
+    @Override
+    public InputStream read() {
+        return new BufferInputStream(buffer());
+    }
+
+    @Override
+    public byte[] readBytes() {
+        ByteBuffer buffer = buffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public ByteBuffer mapBuffer() {
+        return buffer();
+    }
+
+    @Override
+    public long length() {
+        return pack.length(path());
+    }
+
+    @Override
+    public long lastModified() {
+        return 0;
+    }
+
+    @Override
+    public boolean exists() {
+        return pack.isFile(path()) || pack.isDirectory(path());
+    }
+
+    @Override
+    public boolean isDirectory() {
+        return pack.isDirectory(path());
+    }
+
+    @Override
+    public FileHandle[] list() {
+        List<String> children = pack.list(path());
+        FileHandle[] handles = new FileHandle[children.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = files.internal(children.get(i));
+        }
+        return handles;
+    }
+
+    @Override
+    public FileHandle[] list(String suffix) {
+        List<FileHandle> handles = new ArrayList<>();
+        for (String child : pack.list(path())) {
+            if (child.endsWith(suffix)) {
+                handles.add(files.internal(child));
+            }
+        }
+        return handles.toArray(new FileHandle[0]);
+    }
+
+    @Override
+    public FileHandle child(String name) {
+        return files.internal(path().isEmpty() ? name : path() + "/" + name);
+    }
+
+    @Override
+    public FileHandle sibling(String name) {
+        if (path().isEmpty()) {
+            throw new GdxRuntimeException("Cannot get the sibling of the root.");
+        }
+        return parent().child(name);
+    }
+
+    @Override
+    public FileHandle parent() {
+        int slash = path().lastIndexOf('/');
+        return files.internal(slash < 0 ? "" : path().substring(0, slash));
+    }
+
+    private ByteBuffer buffer() {
+        ByteBuffer buffer = pack.get(path());
+        if (buffer == null) {
+            throw new GdxRuntimeException("File not found in asset pack: " + path());
+        }
+        return buffer;
+    }
+
+    /***
+     * Stream over a buffer (reads advance the buffer's position).
+     */
+    private static class BufferInputStream extends InputStream {
+
+        private ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            length = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, length);
+            return length;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package uk.ac.york.sepr4.io;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import lombok.Getter;
+
+import java.io.IOException;
+
+/***
+ * Gdx.files replacement which serves internal files from an AssetPack where possible, and
+ * delegates everything else (and files not in the pack) to the platform's Files.
+ *
+ * The pack is optional: it is only used when generated by the desktop packAssets Gradle task.
+ */
+public class PackFiles implements Files {
+
+    private Files delegate;
+    @Getter
+    private AssetPack pack;
+
+    public PackFiles(Files delegate, AssetPack pack) {
+        this.delegate = delegate;
+        this.pack = pack;
+    }
+
+    /***
+     * Serve internal files from a pack, if present.
+     * Must be called before any files are loaded.
+     * @param packPath local path of the pack file
+     * @return true if the pack was installed
+     */
+    public static boolean install(String packPath) {
+        FileHandle packFile = Gdx.files.local(packPath);
+        if (!packFile.exists()) {
+            return false;
+        }
+        try {
+            PackFiles packFiles = new PackFiles(Gdx.files, AssetPack.open(packFile.file()));
+            Gdx.files = packFiles;
+            Gdx.app.log("PackFiles", "Using " + packPath + " (" + packFiles.getPack().size() + " files)");
+            return true;
+        } catch (IOException e) {
+            Gdx.app.error("PackFiles", "Could not open " + packPath + ", using loose files", e);
+            return false;
+        }
+    }
+
+    @Override
+    public FileHandle getFileHandle(String path, FileType type) {
+        if (type == FileType.Internal) {
+            return internal(path);
+        }
+        return delegate.getFileHandle(path, type);
+    }
+
+    @Override
+    public FileHandle internal(String path) {
+        String packPath = path.replace('\\', '/');
+        if (pack.isFile(packPath) || pack.isDirectory(packPath)) {
+            return new PackFileHandle(this, pack, packPath);
+        }
+        return delegate.internal(path);
+    }
+
+    @Override
+    public FileHandle classpath(String path) {
+        return delegate.classpath(path);
+    }
+
+    @Override
+    public FileHandle external(String path) {
+        return delegate.external(path);
+    }
+
+    @Override
+    public FileHandle absolute(String path) {
+        return delegate.absolute(path);
+    }
+
+    @Override
+    public FileHandle local(String path) {
+        return delegate.local(path);
+    }
+
+    @Override
+    public String getExternalStoragePath() {
+        return delegate.getExternalStoragePath();
+    }
+
+    @Override
+    public boolean isExternalStorageAvailable() {
+        return delegate.isExternalStorageAvailable();
+    }
+
+    @Override
+    public String getLocalStoragePath() {
+        return delegate.getLocalStoragePath();
+    }
+
+    @Override
+    public boolean isLocalStorageAvailable() {
+        return delegate.isLocalStorageAvailable();
+    }
+}
@@ -9,6 +9,7 @@ import uk.ac.york.sepr4.object.building.Building;
 import uk.ac.york.sepr4.object.building.Department;
 import uk.ac.york.sepr4.object.building.MinigameBuilding;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.replay.InputLog;
 import uk.ac.york.sepr4.screen.DepartmentScreen;
 import uk.ac.york.sepr4.screen.EndScreen;
 import uk.ac.york.sepr4.screen.MinigameScreen;
@@ -40,13 +41,8 @@ public class SailInputProcessor implements InputProcessor {
                 }
             }
         }
-        if(keycode == Input.Keys.NUM_1) {
-            gameInstance.getEntityManager().getOrCreatePlayer().setSelectedCrewMember(Optional.empty());
-            return true;
-        }
-        if(gameInstance.getCrewBank().getCrewKeys().contains(Input.Keys.toString(keycode))) {
-            gameInstance.getEntityManager().getOrCreatePlayer().setSelectedCrewMember(
-                    gameInstance.getCrewBank().getCrewFromKey(Input.Keys.toString(keycode)));
+        if(gameInstance.getEntityManager().getOrCreatePlayer().selectCrewByKey(keycode)) {
+            gameInstance.getWorld().recordInput(InputLog.Event.CREW, keycode);
             return true;
         }
 
@@ -68,6 +64,13 @@ public class SailInputProcessor implements InputProcessor {
             return true;
         }
 
+        if (keycode == Input.Keys.M) {
+            //zoom out to show the whole area
+            gameInstance.getSailScreen().getOrthographicCamera().zoom =
+                    gameInstance.getEntityManager().getOrCreatePlayer().MAP_ZOOM;
+            return true;
+        }
+
         if (keycode == Input.Keys.ESCAPE) {
             //toggle pause menu on/off
             gameInstance.setPaused(!gameInstance.isPaused());
@@ -84,6 +87,11 @@ public class SailInputProcessor implements InputProcessor {
             gameInstance.getStatsHUD().toggleMap(false);
             return true;
         }
+        if (keycode == Input.Keys.M) {
+            gameInstance.getSailScreen().getOrthographicCamera().zoom =
+                    gameInstance.getEntityManager().getOrCreatePlayer().DEFAULT_ZOOM;
+            return true;
+        }
         return false;
     }
 
@@ -103,6 +111,7 @@ public class SailInputProcessor implements InputProcessor {
             Vector3 clickLoc = gameInstance.getSailScreen().getOrthographicCamera().unproject(new Vector3(screenX, screenY, 0));
             float fireAngle = (float) (-Math.atan2(player.getCentre().x - clickLoc.x, player.getCentre().y - clickLoc.y));
             Gdx.app.debug("SailScreen", "Firing: Click at (rad) " + fireAngle);
+            gameInstance.getWorld().recordInput(InputLog.Event.FIRE, Float.floatToIntBits(fireAngle));
             //Added for Assessment 3: Allow player to use triple shot
             if (!player.fire(fireAngle)) {
                 Gdx.app.debug("SailScreen", "Firing: Error! (cooldown?)");
@@ -0,0 +1,243 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
+import lombok.Getter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/***
+ * Tiled map renderer which bakes static tile layers into {@link SpriteCache} chunks on load.
+ *
+ * Each frame only the chunks overlapping the camera view are drawn, instead of re-submitting
+ * every visible tile to the batch. Layers containing animated tiles are not cached and are drawn
+ * by the default {@link OrthogonalTiledMapRenderer} path.
+ */
+public class CachedTiledMapRenderer extends OrthogonalTiledMapRenderer {
+
+    //number of tiles along each side of a cached chunk
+    private static final int CHUNK_SIZE = 32;
+
+    private SpriteCache spriteCache;
+    private Map<TiledMapTileLayer, LayerCache> layerCaches = new HashMap<>();
+
+    @Getter
+    private int chunksDrawn, chunksTotal;
+
+    public CachedTiledMapRenderer(TiledMap map, float unitScale) {
+        super(map, unitScale);
+        buildCaches();
+    }
+
+    public CachedTiledMapRenderer(TiledMap map, float unitScale, Batch batch) {
+        super(map, unitScale, batch);
+        buildCaches();
+    }
+
+    /***
+     * Bake all static tile layers into sprite cache chunks.
+     */
+    private void buildCaches() {
+        int tileCount = 0;
+        for (MapLayer mapLayer : map.getLayers()) {
+            if (mapLayer instanceof TiledMapTileLayer && isStatic((TiledMapTileLayer) mapLayer)) {
+                tileCount += countTiles((TiledMapTileLayer) mapLayer);
+            }
+        }
+        if (tileCount == 0) {
+            Gdx.app.log("CachedTiledMapRenderer", "No static tile layers to cache!");
+            return;
+        }
+
+        //indices limit a cache to 8191 sprites, the map has far more tiles than that
+        spriteCache = new SpriteCache(tileCount, false);
+        for (MapLayer mapLayer : map.getLayers()) {
+            if (mapLayer instanceof TiledMapTileLayer && isStatic((TiledMapTileLayer) mapLayer)) {
+                TiledMapTileLayer tileLayer = (TiledMapTileLayer) mapLayer;
+                layerCaches.put(tileLayer, cacheLayer(tileLayer));
+            }
+        }
+        Gdx.app.log("CachedTiledMapRenderer", "Cached " + tileCount + " tiles in "
+                + chunksTotal + " chunks across " + layerCaches.size() + " layers!");
+    }
+
+    /***
+     * Check whether a layer can be baked (contains no animated tiles).
+     * @param layer layer to check
+     * @return true if every tile in the layer is static
+     */
+    private boolean isStatic(TiledMapTileLayer layer) {
+        for (int x = 0; x < layer.getWidth(); x++) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() instanceof AnimatedTiledMapTile) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int countTiles(TiledMapTileLayer layer) {
+        int count = 0;
+        for (int x = 0; x < layer.getWidth(); x++) {
+            for (int y = 0; y < layer.getHeight(); y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell != null && cell.getTile() != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /***
+     * Bake a single layer into chunks of CHUNK_SIZE x CHUNK_SIZE tiles.
+     * @param layer layer to bake
+     * @return cache ids of the layer's chunks
+     */
+    private LayerCache cacheLayer(TiledMapTileLayer layer) {
+        LayerCache layerCache = new LayerCache();
+        layerCache.tileWidth = layer.getTileWidth() * unitScale;
+        layerCache.tileHeight = layer.getTileHeight() * unitScale;
+        layerCache.chunksX = (layer.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        layerCache.chunksY = (layer.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        layerCache.cacheIds = new int[layerCache.chunksX * layerCache.chunksY];
+
+        Color color = new Color(batch.getColor());
+        color.a *= layer.getOpacity();
+        spriteCache.setColor(color);
+
+        for (int chunkX = 0; chunkX < layerCache.chunksX; chunkX++) {
+            for (int chunkY = 0; chunkY < layerCache.chunksY; chunkY++) {
+                int index = chunkX + chunkY * layerCache.chunksX;
+                layerCache.cacheIds[index] = cacheChunk(layer, layerCache, chunkX, chunkY);
+            }
+        }
+        return layerCache;
+    }
+
+    /***
+     * Add all tiles of a chunk to a new cache.
+     * @return cache id, or -1 if the chunk is empty
+     */
+    private int cacheChunk(TiledMapTileLayer layer, LayerCache layerCache, int chunkX, int chunkY) {
+        int startX = chunkX * CHUNK_SIZE, startY = chunkY * CHUNK_SIZE;
+        int endX = Math.min(startX + CHUNK_SIZE, layer.getWidth());
+        int endY = Math.min(startY + CHUNK_SIZE, layer.getHeight());
+
+        boolean empty = true;
+        spriteCache.beginCache();
+        for (int x = startX; x < endX; x++) {
+            for (int y = startY; y < endY; y++) {
+                TiledMapTileLayer.Cell cell = layer.getCell(x, y);
+                if (cell == null || cell.getTile() == null) {
+                    continue;
+                }
+                TiledMapTile tile = cell.getTile();
+                TextureRegion region = new TextureRegion(tile.getTextureRegion());
+                region.flip(cell.getFlipHorizontally(), cell.getFlipVertically());
+
+                float width = region.getRegionWidth() * unitScale;
+                float height = region.getRegionHeight() * unitScale;
+                float drawX = x * layerCache.tileWidth + tile.getOffsetX() * unitScale;
+                float drawY = y * layerCache.tileHeight + tile.getOffsetY() * unitScale;
+                //cell rotation is stored in 90 degree (counter-clockwise) steps
+                spriteCache.add(region, drawX, drawY, width / 2, height / 2, width, height,
+                        1, 1, cell.getRotation() * 90f);
+                empty = false;
+            }
+        }
+        int cacheId = spriteCache.endCache();
+        if (empty) {
+            return -1;
+        }
+        chunksTotal++;
+        return cacheId;
+    }
+
+    /***
+     * Draw the chunks of a cached layer which overlap the current view.
+     * Falls back to per-tile rendering for layers which were not cached.
+     * @param layer layer to render
+     */
+    @Override
+    public void renderTileLayer(TiledMapTileLayer layer) {
+        LayerCache layerCache = layerCaches.get(layer);
+        if (layerCache == null) {
+            super.renderTileLayer(layer);
+            return;
+        }
+
+        //tiles with offsets can overhang their chunk slightly
+        float chunkWidth = CHUNK_SIZE * layerCache.tileWidth;
+        float chunkHeight = CHUNK_SIZE * layerCache.tileHeight;
+        int col1 = Math.max(0, (int) ((viewBounds.x - layerCache.tileWidth) / chunkWidth));
+        int col2 = Math.min(layerCache.chunksX - 1,
+                (int) ((viewBounds.x + viewBounds.width + layerCache.tileWidth) / chunkWidth));
+        int row1 = Math.max(0, (int) ((viewBounds.y - layerCache.tileHeight) / chunkHeight));
+        int row2 = Math.min(layerCache.chunksY - 1,
+                (int) ((viewBounds.y + viewBounds.height + layerCache.tileHeight) / chunkHeight));
+        if (col1 > col2 || row1 > row2) {
+            return;
+        }
+
+        //sprite cache cannot draw inside the batch
+        batch.end();
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        spriteCache.setProjectionMatrix(batch.getProjectionMatrix());
+        spriteCache.begin();
+        for (int chunkX = col1; chunkX <= col2; chunkX++) {
+            for (int chunkY = row1; chunkY <= row2; chunkY++) {
+                int cacheId = layerCache.cacheIds[chunkX + chunkY * layerCache.chunksX];
+                if (cacheId != -1) {
+                    spriteCache.draw(cacheId);
+                    chunksDrawn++;
+                }
+            }
+        }
+        spriteCache.end();
+        batch.begin();
+    }
+
+    @Override
+    public void render() {
+        chunksDrawn = 0;
+        super.render();
+    }
+
+    @Override
+    public void render(int[] layers) {
+        chunksDrawn = 0;
+        super.render(layers);
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (spriteCache != null) {
+            spriteCache.dispose();
+        }
+    }
+
+    /***
+     * Cache ids and dimensions of a baked layer.
+     */
+    private static class LayerCache {
+        private float tileWidth, tileHeight;
+        private int chunksX, chunksY;
+        private int[] cacheIds;
+    }
+}
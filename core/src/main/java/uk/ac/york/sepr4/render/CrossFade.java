@@ -0,0 +1,100 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import uk.ac.york.sepr4.screen.PirateScreen;
+
+/***
+ * Cross-fades between snapshots of two screens.
+ *
+ * Each screen is drawn once into its own capture buffer, then every transition frame is a single
+ * quad blending the two textures in a shader - no simulation or scene drawing.
+ */
+public class CrossFade implements Disposable {
+
+    private static final String VERTEX_SHADER = ""
+            + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n"
+            + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "void main() {\n"
+            + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+
+    private static final String FRAGMENT_SHADER = ""
+            + "#ifdef GL_ES\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "varying vec2 v_texCoords;\n"
+            + "uniform sampler2D u_texture;\n"
+            + "uniform sampler2D u_texture2;\n"
+            + "uniform float u_mix;\n"
+            + "uniform float u_brightness;\n"
+            + "void main() {\n"
+            + "    vec3 from = texture2D(u_texture, v_texCoords).rgb;\n"
+            + "    vec3 to = texture2D(u_texture2, v_texCoords).rgb;\n"
+            + "    gl_FragColor = vec4(mix(from, to, u_mix) * u_brightness, 1.0);\n"
+            + "}\n";
+
+    private ShaderProgram shader;
+    private FrameCapture from = new FrameCapture(), to = new FrameCapture();
+    private Matrix4 screenProjection = new Matrix4();
+
+    public CrossFade() {
+        shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("Could not compile cross-fade shader: " + shader.getLog());
+        }
+    }
+
+    /***
+     * Snapshot both screens (drawn once, without updating them).
+     * @param fadeOut outgoing screen
+     * @param fadeIn incoming screen
+     */
+    public void capture(PirateScreen fadeOut, PirateScreen fadeIn) {
+        from.begin();
+        fadeOut.drawFrame();
+        from.end();
+
+        to.begin();
+        fadeIn.drawFrame();
+        to.end();
+    }
+
+    /***
+     * Draw the transition at the given progress.
+     * Dips through black half way, matching the previous fade out/fade in.
+     * @param batch batch to draw with (must not have begun)
+     * @param progress 0 (outgoing screen) to 1 (incoming screen)
+     */
+    public void draw(Batch batch, float progress) {
+        to.getRegion().getTexture().bind(1);
+        Gdx.gl.glActiveTexture(GL20.GL_TEXTURE0);
+
+        screenProjection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(screenProjection);
+        batch.setShader(shader);
+        batch.begin();
+        shader.setUniformi("u_texture2", 1);
+        shader.setUniformf("u_mix", progress);
+        shader.setUniformf("u_brightness", Math.abs(1 - 2 * progress));
+        batch.draw(from.getRegion(), 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.end();
+        batch.setShader(null);
+    }
+
+    @Override
+    public void dispose() {
+        shader.dispose();
+        from.dispose();
+        to.dispose();
+    }
+}
@@ -0,0 +1,29 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.object.entity.Entity;
+
+/***
+ * Draws entities from their simulation state. Holds no state of its own - entities are read, never changed.
+ */
+public class EntityRenderer {
+
+    /***
+     * Draw an entity's sprite, rotated about its centre, between its previous and current transform.
+     * @param batch batch (begun)
+     * @param entity entity to draw
+     * @param interpolation fraction of a step elapsed since the last step (0 to 1)
+     * @param parentAlpha alpha of the parent (e.g. stage root)
+     */
+    public static void draw(Batch batch, Entity entity, float interpolation, float parentAlpha) {
+        batch.setColor(1, 1, 1, entity.getAlpha() * parentAlpha);
+
+        Texture texture = FileManager.getTexture(entity.getSprite(), entity.getFrame());
+        float angleDegrees = entity.getRenderAngle(interpolation) * 360 / 2 / 3.14f;
+        batch.draw(texture, entity.getRenderX(interpolation), entity.getRenderY(interpolation),
+                entity.getWidth() / 2, entity.getHeight() / 2, entity.getWidth(), entity.getHeight(), 1, 1,
+                angleDegrees, 0, 0, texture.getWidth(), texture.getHeight(), false, false);
+    }
+}
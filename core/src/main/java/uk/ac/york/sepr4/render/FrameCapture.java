@@ -0,0 +1,74 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import lombok.Getter;
+import uk.ac.york.sepr4.utils.ResourceTracker;
+
+/***
+ * Screen-sized offscreen buffer used to capture a frame once and redraw it as a single quad
+ * (e.g. pause backdrop). Recreated if the screen size changes.
+ */
+public class FrameCapture implements Disposable {
+
+    private FrameBuffer frameBuffer;
+    @Getter
+    private TextureRegion region;
+    private Matrix4 screenProjection = new Matrix4();
+
+    /***
+     * Start capturing - subsequent draws go to the capture buffer (cleared to black).
+     */
+    public void begin() {
+        int width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+        if (frameBuffer == null || frameBuffer.getWidth() != width || frameBuffer.getHeight() != height) {
+            dispose();
+            frameBuffer = ResourceTracker.track("FrameCapture",
+                    new FrameBuffer(Pixmap.Format.RGB888, width, height, false), false);
+            //framebuffer textures are upside down
+            region = new TextureRegion(frameBuffer.getColorBufferTexture());
+            region.flip(false, true);
+        }
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+    }
+
+    /***
+     * Stop capturing and return to drawing to the screen.
+     */
+    public void end() {
+        frameBuffer.end();
+    }
+
+    /***
+     * Draw the captured frame over the whole screen.
+     * @param batch batch to draw with (must not have begun)
+     */
+    public void draw(Batch batch) {
+        if (region == null) {
+            return;
+        }
+        screenProjection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.setProjectionMatrix(screenProjection);
+        batch.setColor(1, 1, 1, 1);
+        batch.begin();
+        batch.draw(region, 0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        batch.end();
+    }
+
+    @Override
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+            region = null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.Screen;
+import lombok.Getter;
+
+/***
+ * Switches libGDX to non-continuous rendering while the current screen is idle (static).
+ *
+ * Sits in front of the current input processor so any input requests a frame and keeps
+ * rendering continuous for a short grace period (button highlights, scroll flings etc).
+ */
+public class IdleRenderController implements InputProcessor {
+
+    //seconds of continuous rendering after the last input
+    private static final float GRACE_PERIOD = 1f;
+    //largest delta passed to a screen on the first frame after idling
+    private static final float MAX_RESUME_DELTA = 1 / 30f;
+
+    private InputProcessor delegate;
+    private float sinceInput = 0f;
+    @Getter
+    private boolean idle = false;
+
+    /***
+     * Update rendering mode for the current screen. Called at the start of every frame.
+     * @param screen current screen
+     * @param delta time since last frame
+     * @return delta to pass to the screen (clamped when resuming from idle)
+     */
+    public float update(Screen screen, float delta) {
+        //screens set their own processors on show - keep forwarding to whichever is current
+        InputProcessor current = Gdx.input.getInputProcessor();
+        if (current != this) {
+            delegate = current;
+            Gdx.input.setInputProcessor(this);
+        }
+
+        if (idle) {
+            //time passed while idle is not simulated
+            delta = Math.min(delta, MAX_RESUME_DELTA);
+        }
+        sinceInput += delta;
+
+        boolean shouldIdle = screen instanceof IdleScreen && ((IdleScreen) screen).isIdle()
+                && sinceInput >= GRACE_PERIOD;
+        if (shouldIdle != idle) {
+            idle = shouldIdle;
+            Gdx.graphics.setContinuousRendering(!idle);
+            Gdx.app.debug("IdleRenderController", idle ? "Idle - rendering on demand" : "Rendering continuously");
+        }
+        return delta;
+    }
+
+    /***
+     * Input received - render (at least) the next frames.
+     */
+    private void onInput() {
+        sinceInput = 0f;
+        Gdx.graphics.requestRendering();
+    }
+
+    @Override
+    public boolean keyDown(int keycode) {
+        onInput();
+        return delegate != null && delegate.keyDown(keycode);
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        onInput();
+        return delegate != null && delegate.keyUp(keycode);
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        onInput();
+        return delegate != null && delegate.keyTyped(character);
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        onInput();
+        return delegate != null && delegate.touchDown(screenX, screenY, pointer, button);
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        onInput();
+        return delegate != null && delegate.touchUp(screenX, screenY, pointer, button);
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        onInput();
+        return delegate != null && delegate.touchDragged(screenX, screenY, pointer);
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        onInput();
+        return delegate != null && delegate.mouseMoved(screenX, screenY);
+    }
+
+    @Override
+    public boolean scrolled(int amount) {
+        onInput();
+        return delegate != null && delegate.scrolled(amount);
+    }
+}
@@ -0,0 +1,12 @@
+package uk.ac.york.sepr4.render;
+
+/***
+ * Implemented by screens which can stop rendering continuously when nothing is changing.
+ */
+public interface IdleScreen {
+
+    /***
+     * @return true if the screen only changes in response to input
+     */
+    boolean isIdle();
+}
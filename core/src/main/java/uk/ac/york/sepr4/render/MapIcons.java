@@ -0,0 +1,35 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.graphics.Color;
+import uk.ac.york.sepr4.object.building.College;
+import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.npc.NPCBoat;
+import uk.ac.york.sepr4.object.entity.npc.NPCMonster;
+
+/***
+ * Marker colours used when drawing entities/buildings as simple icons (low-detail view and minimap).
+ */
+public class MapIcons {
+
+    public static Color getColour(LivingEntity livingEntity) {
+        if (livingEntity instanceof Player) {
+            return Color.GREEN;
+        } else if (livingEntity instanceof NPCMonster) {
+            return Color.PURPLE;
+        } else if (livingEntity instanceof NPCBoat && ((NPCBoat) livingEntity).isBoss()) {
+            return Color.ORANGE;
+        }
+        return Color.RED;
+    }
+
+    /***
+     * Get college marker colour.
+     * @param college college to draw
+     * @param player player (captured colleges are shown differently)
+     * @return marker colour
+     */
+    public static Color getColour(College college, Player player) {
+        return player.getCaptured().contains(college) ? Color.CYAN : Color.YELLOW;
+    }
+}
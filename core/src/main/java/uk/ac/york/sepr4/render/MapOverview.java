@@ -0,0 +1,82 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import lombok.Getter;
+import uk.ac.york.sepr4.utils.ResourceTracker;
+
+/***
+ * Pre-rendered, mipmapped image of the whole tile map.
+ *
+ * Generated once from the tile layers so zoomed-out views can draw a single quad
+ * instead of every visible tile.
+ */
+public class MapOverview implements Disposable {
+
+    //power of two so mipmaps can be generated on all GL versions
+    private static final int SIZE = 2048;
+
+    private FrameBuffer frameBuffer;
+    @Getter
+    private TextureRegion region;
+    @Getter
+    private float width, height;
+
+    /***
+     * Render the map into an offscreen buffer and generate its mipmaps.
+     * @param tiledMap map to render
+     * @param renderer renderer used for the normal view of the map
+     * @param unitScale unit scale of the renderer
+     */
+    public MapOverview(TiledMap tiledMap, TiledMapRenderer renderer, float unitScale) {
+        width = tiledMap.getProperties().get("width", Integer.class)
+                * tiledMap.getProperties().get("tilewidth", Integer.class) * unitScale;
+        height = tiledMap.getProperties().get("height", Integer.class)
+                * tiledMap.getProperties().get("tileheight", Integer.class) * unitScale;
+
+        OrthographicCamera camera = new OrthographicCamera();
+        camera.setToOrtho(false, width, height);
+        camera.update();
+
+        frameBuffer = ResourceTracker.track("MapOverview",
+                new FrameBuffer(Pixmap.Format.RGB888, SIZE, SIZE, false), true);
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        renderer.setView(camera);
+        renderer.render();
+        frameBuffer.end();
+
+        Texture texture = frameBuffer.getColorBufferTexture();
+        texture.bind();
+        Gdx.gl.glGenerateMipmap(GL20.GL_TEXTURE_2D);
+        texture.setFilter(Texture.TextureFilter.MipMapLinearLinear, Texture.TextureFilter.Linear);
+
+        //framebuffer textures are upside down
+        region = new TextureRegion(texture);
+        region.flip(false, true);
+        Gdx.app.debug("MapOverview", "Generated " + SIZE + "x" + SIZE + " map overview");
+    }
+
+    /***
+     * Draw the overview covering the map's world bounds.
+     * @param batch batch to draw with (must have begun)
+     */
+    public void draw(Batch batch) {
+        batch.draw(region, 0, 0, width, height);
+    }
+
+    @Override
+    public void dispose() {
+        frameBuffer.dispose();
+    }
+}
@@ -0,0 +1,37 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Disposable;
+import lombok.Getter;
+
+/***
+ * Rendering resources shared by all screens, HUDs and renderers.
+ *
+ * A single SpriteBatch and ShapeRenderer (and their shaders/vertex buffers) serve the whole frame.
+ * Users must set the projection matrix before drawing, as it is not preserved between users.
+ * Stages created with the shared batch do not dispose it - only this context does.
+ */
+public class RenderContext implements Disposable {
+
+    @Getter
+    private SpriteBatch batch;
+    @Getter
+    private ShapeRenderer shapeRenderer;
+    //screen transition snapshots and shader
+    @Getter
+    private CrossFade crossFade;
+
+    public RenderContext() {
+        batch = new SpriteBatch();
+        shapeRenderer = new ShapeRenderer();
+        crossFade = new CrossFade();
+    }
+
+    @Override
+    public void dispose() {
+        batch.dispose();
+        shapeRenderer.dispose();
+        crossFade.dispose();
+    }
+}
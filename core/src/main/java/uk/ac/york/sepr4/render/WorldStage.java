@@ -0,0 +1,123 @@
+package uk.ac.york.sepr4.render;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.badlogic.gdx.utils.viewport.Viewport;
+import lombok.Getter;
+import lombok.Setter;
+import uk.ac.york.sepr4.object.entity.Entity;
+
+/***
+ * Stage for the world: draws entities (from their simulation state) and then world-space actors
+ * (e.g. health bars), skipping any not overlapping the camera's view.
+ */
+public class WorldStage extends Stage {
+
+    @Getter
+    private Rectangle viewBounds = new Rectangle();
+
+    //fraction of a simulation step elapsed since the last step (0 to 1) - entities are drawn this far
+    //between their previous and current positions
+    @Getter
+    @Setter
+    private float interpolation = 1;
+
+    //entities to draw this frame, in order (filled by the screen before drawing)
+    @Getter
+    private Array<Entity> entities = new Array<>();
+
+    //counters for the last draw
+    @Getter
+    private int drawn, culled;
+
+    public WorldStage(Viewport viewport) {
+        super(viewport);
+    }
+
+    public WorldStage(Viewport viewport, Batch batch) {
+        super(viewport, batch);
+    }
+
+    /***
+     * Draw visible entities and actors which overlap the view, skipping the rest.
+     * World actors are direct children of the root so are drawn without a group transform.
+     */
+    @Override
+    public void draw() {
+        Camera camera = getViewport().getCamera();
+        camera.update();
+
+        Group root = getRoot();
+        drawn = 0;
+        culled = 0;
+        if (!root.isVisible()) {
+            return;
+        }
+        updateViewBounds(camera);
+
+        Batch batch = getBatch();
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
+        for (Entity entity : entities) {
+            if (isInView(entity.getX(), entity.getY(), entity.getWidth(), entity.getHeight())) {
+                EntityRenderer.draw(batch, entity, interpolation, root.getColor().a);
+                drawn++;
+            } else {
+                culled++;
+            }
+        }
+        batch.setColor(1, 1, 1, 1);
+        SnapshotArray<Actor> children = root.getChildren();
+        Actor[] actors = children.begin();
+        for (int i = 0, n = children.size; i < n; i++) {
+            Actor actor = actors[i];
+            if (!actor.isVisible()) {
+                continue;
+            }
+            if (isInView(actor)) {
+                actor.draw(batch, root.getColor().a);
+                drawn++;
+            } else {
+                culled++;
+            }
+        }
+        children.end();
+        batch.end();
+    }
+
+    /***
+     * Check whether an actor's bounds overlap the view.
+     * Bounds are grown by half the actor's largest side as actors may be drawn rotated about their centre.
+     * @param actor actor to check
+     * @return true if actor may be visible
+     */
+    public boolean isInView(Actor actor) {
+        return isInView(actor.getX(), actor.getY(), actor.getWidth(), actor.getHeight());
+    }
+
+    /***
+     * Check whether bounds overlap the view (grown as above).
+     * @return true if bounds may be visible
+     */
+    public boolean isInView(float x, float y, float width, float height) {
+        float margin = Math.max(width, height) / 2;
+        return x - margin < viewBounds.x + viewBounds.width
+                && x + width + margin > viewBounds.x
+                && y - margin < viewBounds.y + viewBounds.height
+                && y + height + margin > viewBounds.y;
+    }
+
+    private void updateViewBounds(Camera camera) {
+        float zoom = camera instanceof OrthographicCamera ? ((OrthographicCamera) camera).zoom : 1;
+        float width = camera.viewportWidth * zoom;
+        float height = camera.viewportHeight * zoom;
+        viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+    }
+}
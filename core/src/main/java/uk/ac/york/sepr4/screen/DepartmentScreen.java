@@ -14,6 +14,7 @@ import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.object.building.Department;
 import uk.ac.york.sepr4.object.crew.CrewMember;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.replay.InputLog;
 import uk.ac.york.sepr4.utils.StyleManager;
 
 public class DepartmentScreen extends PirateScreen {
@@ -23,9 +24,17 @@ public class DepartmentScreen extends PirateScreen {
 
     private TextButton upgrade, repair;
 
+    //length of an autopilot (soak run) visit (s)
+    private static final float AUTOPILOT_VISIT = 1f;
+    private float autopilotTime = 0f;
+    private boolean leaving = false;
+
     public DepartmentScreen(GameInstance gameInstance, Department department) {
-        super(gameInstance, new Stage(new ScreenViewport()), FileManager.departmentScreenBG);
+        super(gameInstance, new Stage(new ScreenViewport(), gameInstance.getRenderContext().getBatch()));
         this.gameInstance = gameInstance;
+        //department assets are loaded on first entry
+        FileManager.ensureLoaded(FileManager.AssetGroup.DEPARTMENT);
+        setBackground(FileManager.departmentScreenBG);
         this.department = department;
 
         //make stats (gold) visible on this screen
@@ -39,6 +48,29 @@ public class DepartmentScreen extends PirateScreen {
         updateTextButtons();
     }
 
+    /***
+     * Autopilot: buy what the player can afford, then leave (as the buttons would).
+     * @param step length of step (s)
+     */
+    @Override
+    protected void update(float step) {
+        super.update(step);
+        if (gameInstance.getGame().isAutopilot() && !leaving) {
+            autopilotTime += step;
+            if (autopilotTime >= AUTOPILOT_VISIT) {
+                repair();
+                upgrade();
+                leave();
+            }
+        }
+    }
+
+    @Override
+    public boolean isIdle() {
+        //shop only changes on input (autopilot input does not wake idle screens, so keep updating)
+        return !gameInstance.getGame().isAutopilot();
+    }
+
     /***
      * Create Shop Menu.
      * Player can repair ship if damaged or upgrade crew member.
@@ -63,11 +95,7 @@ public class DepartmentScreen extends PirateScreen {
         repair.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent ev, float x, float y) {
-                if(player.getBalance()>=getHealCost()) {
-                    //has enough gold
-                    player.deductBalance(getHealCost());
-                    player.setHealth(player.getMaxHealth());
-                }
+                repair();
             }
         });
 
@@ -86,12 +114,7 @@ public class DepartmentScreen extends PirateScreen {
         upgrade.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent ev, float x, float y) {
-                if((player.getBalance()>=crewMember.getUpgradeCost())
-                        && crewMember.canUpgrade()) {
-                    //has enough gold and not maximum level
-                    player.deductBalance(crewMember.getUpgradeCost());
-                    crewMember.upgrade();
-                }
+                upgrade();
             }
         });
 
@@ -100,7 +123,7 @@ public class DepartmentScreen extends PirateScreen {
         exit.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent ev, float x, float y) {
-                gameInstance.fadeSwitchScreen(gameInstance.getSailScreen());
+                leave();
             }
         });
 
@@ -129,6 +152,29 @@ public class DepartmentScreen extends PirateScreen {
         getStage().addActor(table);
     }
 
+    //purchases are recorded (by department index) so a replay buys the same at the same step
+    private void repair() {
+        if(department.repair(gameInstance.getEntityManager().getOrCreatePlayer())) {
+            gameInstance.getWorld().recordInput(InputLog.Event.REPAIR, departmentIndex());
+        }
+    }
+
+    private void upgrade() {
+        if(department.upgrade(gameInstance.getEntityManager().getOrCreatePlayer())) {
+            gameInstance.getWorld().recordInput(InputLog.Event.UPGRADE, departmentIndex());
+        }
+    }
+
+    private int departmentIndex() {
+        return gameInstance.getBuildingManager().getDepartments().indexOf(department, true);
+    }
+
+    private void leave() {
+        leaving = true;
+        //department screen is created on each visit - dispose after fading out
+        gameInstance.fadeSwitchScreen(gameInstance.getSailScreen(), true);
+    }
+
     /***
      * Update repair and upgrade cost.
      */
@@ -139,7 +185,6 @@ public class DepartmentScreen extends PirateScreen {
     }
 
     private Integer getHealCost() {
-        Player player = gameInstance.getEntityManager().getOrCreatePlayer();
-        return (int)Math.round(department.getHealCost()*(player.getMaxHealth()-player.getHealth()));
+        return department.getRepairCost(gameInstance.getEntityManager().getOrCreatePlayer());
     }
 }
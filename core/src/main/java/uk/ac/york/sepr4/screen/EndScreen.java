@@ -19,11 +19,18 @@ public class EndScreen extends PirateScreen {
         private GameInstance gameInstance;
         private boolean win;
 
+        //autopilot (soak runs) starts the next game after this long (s)
+        private static final float AUTOPILOT_RESTART = 3f;
+        private float autopilotTime = 0f;
+        private boolean restarted = false;
+
         public EndScreen(GameInstance gameInstance, boolean win) {
-            super(gameInstance, new Stage(new ScreenViewport()), FileManager.mainMenuScreenBG);
+            super(gameInstance, new Stage(new ScreenViewport(), gameInstance.getRenderContext().getBatch()), FileManager.mainMenuScreenBG);
 
             this.gameInstance = gameInstance;
             this.win = win;
+            //disposed with the game instance (after play again/next new game)
+            gameInstance.getResources().own(this);
 
             setupScreen();
         }
@@ -58,9 +65,7 @@ public class EndScreen extends PirateScreen {
             playAgain.addListener(new ClickListener() {
                 @Override
                 public void clicked(InputEvent ev, float x, float y) {
-                    //start a new game
-                    GameInstance newGI = new GameInstance(gameInstance.getGame());
-                    newGI.start(false);
+                    playAgain();
                 }
             });
 
@@ -79,9 +84,36 @@ public class EndScreen extends PirateScreen {
             getStage().addActor(table);
         }
 
+        private void playAgain() {
+            restarted = true;
+            //start a new game (this instance is disposed once replaced)
+            gameInstance.getGame().newGame().start(false);
+        }
+
+        /***
+         * Autopilot: play again, so soak runs go on through many games.
+         * @param step length of step (s)
+         */
+        @Override
+        protected void update(float step) {
+            super.update(step);
+            if (gameInstance.getGame().isAutopilot() && !restarted) {
+                autopilotTime += step;
+                if (autopilotTime >= AUTOPILOT_RESTART) {
+                    playAgain();
+                }
+            }
+        }
+
         @Override
         public void renderInner(float delta) {
             //no moving parts - not required
         }
 
+        @Override
+        public boolean isIdle() {
+            //only changes on input (autopilot input does not wake idle screens, so keep updating)
+            return !gameInstance.getGame().isAutopilot();
+        }
+
 }
@@ -14,9 +14,11 @@ import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import uk.ac.york.sepr4.APirateGame;
 import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.render.IdleScreen;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 import uk.ac.york.sepr4.utils.StyleManager;
 
-public class HowToPlayScreen implements Screen {
+public class HowToPlayScreen implements Screen, IdleScreen {
 
     private APirateGame game;
     private Stage stage;
@@ -24,9 +26,12 @@ public class HowToPlayScreen implements Screen {
     private Screen returnScreen;
 
     public HowToPlayScreen(APirateGame game, Screen returnScreen) {
-        this.stage = new Stage(new ScreenViewport());
+        this.stage = ResourceTracker.track(ResourceTracker.Category.STAGE, "HowToPlayScreen",
+                new Stage(new ScreenViewport(), game.getRenderContext().getBatch()), 0);
         this.game = game;
         this.returnScreen = returnScreen;
+        //uses the department background
+        FileManager.ensureLoaded(FileManager.AssetGroup.DEPARTMENT);
 
         Gdx.input.setInputProcessor(stage);
 
@@ -76,6 +81,8 @@ public class HowToPlayScreen implements Screen {
             @Override
             public void clicked(InputEvent event, float x, float y) {
                 game.setScreen(returnScreen);
+                //created on each visit - dispose once this frame has finished with the stage
+                Gdx.app.postRunnable(HowToPlayScreen.this::dispose);
             }
         });
 
@@ -117,6 +124,12 @@ public class HowToPlayScreen implements Screen {
         stage.setScrollFocus(scrollPane);
     }
 
+    @Override
+    public boolean isIdle() {
+        //only changes on input
+        return true;
+    }
+
     @Override
     public void show() {
         Gdx.input.setInputProcessor(stage);
@@ -138,7 +151,9 @@ public class HowToPlayScreen implements Screen {
      * Draw screen's background.
      */
     private void drawMenuBackground() {
-        //sets background texture
+        //sets background texture (batch is shared - set projection)
+        stage.getCamera().update();
+        stage.getBatch().setProjectionMatrix(stage.getCamera().combined);
         stage.getBatch().begin();
         Texture texture = FileManager.departmentScreenBG;
         texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
@@ -0,0 +1,82 @@
+package uk.ac.york.sepr4.screen;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Matrix4;
+import uk.ac.york.sepr4.APirateGame;
+import uk.ac.york.sepr4.io.FileManager;
+
+/***
+ * Shown on startup while core textures load in small slices each frame.
+ */
+public class LoadingScreen implements Screen {
+
+    //time spent loading per frame (ms) - keeps the window responsive
+    private static final int LOAD_SLICE = 15;
+
+    private APirateGame game;
+    private Matrix4 projection = new Matrix4();
+    private boolean finished = false;
+
+    public LoadingScreen(APirateGame game) {
+        this.game = game;
+        FileManager.queue(FileManager.AssetGroup.CORE);
+    }
+
+    @Override
+    public void render(float delta) {
+        // clear the screen ready for next set of images to be drawn
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        boolean done = FileManager.update(LOAD_SLICE);
+        drawProgressBar(FileManager.getProgress());
+
+        if (done && !finished) {
+            finished = true;
+            game.onAssetsLoaded();
+        }
+    }
+
+    /***
+     * Draw progress bar in the middle of the screen.
+     * @param progress 0 to 1
+     */
+    private void drawProgressBar(float progress) {
+        float width = Gdx.graphics.getWidth() * 0.4f, height = 20;
+        float x = (Gdx.graphics.getWidth() - width) / 2, y = (Gdx.graphics.getHeight() - height) / 2;
+
+        ShapeRenderer shapeRenderer = game.getRenderContext().getShapeRenderer();
+        projection.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        shapeRenderer.setProjectionMatrix(projection);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(x, y, width, height);
+        shapeRenderer.setColor(Color.GOLD);
+        shapeRenderer.rect(x, y, width * progress, height);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void show() {
+        Gdx.input.setInputProcessor(null);
+    }
+
+    @Override
+    public void resize(int width, int height) {}
+
+    @Override
+    public void pause() {}
+
+    @Override
+    public void resume() {}
+
+    @Override
+    public void hide() {}
+
+    @Override
+    public void dispose() {}
+}
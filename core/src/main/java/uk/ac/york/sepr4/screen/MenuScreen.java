@@ -15,19 +15,22 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import uk.ac.york.sepr4.APirateGame;
-import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.render.IdleScreen;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 import uk.ac.york.sepr4.utils.StyleManager;
 
-public class MenuScreen implements Screen {
+public class MenuScreen implements Screen, IdleScreen {
 
     private APirateGame game;
 
     private Stage stage;
+    private boolean firstFrame = true;
 
     public MenuScreen(APirateGame game) {
         this.game = game;
-        this.stage = new Stage(new ScreenViewport());
+        this.stage = ResourceTracker.track(ResourceTracker.Category.STAGE, "MenuScreen",
+                new Stage(new ScreenViewport(), game.getRenderContext().getBatch()), 0);
 
         Gdx.input.setInputProcessor(stage);
         createTable();
@@ -82,9 +85,8 @@ public class MenuScreen implements Screen {
         newGame.addListener(new ClickListener() {
             @Override
             public void clicked(InputEvent event, float x, float y) {
-                GameInstance gameInstance = new GameInstance(game);
-                //start game and display how to play screen
-                gameInstance.start(true);
+                //start game (replacing any previous one) and display how to play screen
+                game.newGame().start(true);
             }
         });
 
@@ -102,7 +104,9 @@ public class MenuScreen implements Screen {
      * Draw screen's background.
      */
     private void drawMenuBackground() {
-        //sets background texture
+        //sets background texture (batch is shared - set projection)
+        stage.getCamera().update();
+        stage.getBatch().setProjectionMatrix(stage.getCamera().combined);
         stage.getBatch().begin();
         Texture texture = FileManager.mainMenuScreenBG;
         texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
@@ -111,6 +115,12 @@ public class MenuScreen implements Screen {
         stage.getBatch().end();
     }
 
+    @Override
+    public boolean isIdle() {
+        //only changes on input
+        return true;
+    }
+
     @Override
     public void show() {
         Gdx.input.setInputProcessor(stage);
@@ -126,6 +136,12 @@ public class MenuScreen implements Screen {
 
         stage.act();
         stage.draw();
+
+        if (firstFrame) {
+            //menu can now respond to input
+            firstFrame = false;
+            game.getStartupTimer().mark("First menu frame (time to interactive)");
+        }
     }
 
     @Override
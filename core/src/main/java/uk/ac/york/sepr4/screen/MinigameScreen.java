@@ -13,9 +13,10 @@ import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.io.MinigameInputProcessor;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.replay.InputLog;
+import uk.ac.york.sepr4.utils.RandomStreams;
 import uk.ac.york.sepr4.utils.StyleManager;
 
-import java.util.Random;
 
 public class MinigameScreen extends PirateScreen {
 
@@ -32,7 +33,11 @@ public class MinigameScreen extends PirateScreen {
     private Image playerImage, enemyImage;
 
     public MinigameScreen(GameInstance gameInstance) {
-        super(gameInstance, new Stage(new ScreenViewport()), FileManager.departmentScreenBG);
+        super(gameInstance, new Stage(new ScreenViewport(), gameInstance.getRenderContext().getBatch()));
+        //minigame assets are loaded on first entry
+        FileManager.ensureLoaded(FileManager.AssetGroup.DEPARTMENT);
+        FileManager.ensureLoaded(FileManager.AssetGroup.MINIGAME);
+        setBackground(FileManager.departmentScreenBG);
 
         getInputMultiplexer().addProcessor(new MinigameInputProcessor(this));
 
@@ -96,8 +101,10 @@ public class MinigameScreen extends PirateScreen {
         displayMenu();
     }
 
+    //gold won or paid here is recorded, so replays see the same balance
     private void giveReward() {
         getGameInstance().getEntityManager().getOrCreatePlayer().addBalance(difficulty.getReward());
+        getGameInstance().getWorld().recordInput(InputLog.Event.GOLD, difficulty.getReward());
     }
 
     private void createMenu() {
@@ -181,6 +188,7 @@ public class MinigameScreen extends PirateScreen {
         if (player.getBalance() >= difficulty.getCost()) {
             //if player has enough money
             player.deductBalance(difficulty.getCost());
+            getGameInstance().getWorld().recordInput(InputLog.Event.GOLD, -difficulty.getCost());
             setCountdowns(difficulty);
             this.difficulty = difficulty;
             getStage().clear();
@@ -214,8 +222,7 @@ public class MinigameScreen extends PirateScreen {
     }
 
     private void setCountdowns(MinigameDifficulty minigameDifficulty) {
-        Random random = new Random();
-        startCountdown = random.nextInt(3) + 1;
+        startCountdown = getGameInstance().getRandom().nextInt(RandomStreams.Stream.MINIGAME, 3) + 1;
         enemyShootTimer = startCountdown + minigameDifficulty.getCountdown();
     }
 }
@@ -3,42 +3,40 @@ package uk.ac.york.sepr4.screen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.Disposable;
 import lombok.Data;
 import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.render.IdleScreen;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+import uk.ac.york.sepr4.utils.ResourceTracker;
 
 @Data
-public abstract class PirateScreen implements Screen {
+public abstract class PirateScreen implements Screen, IdleScreen, Disposable {
 
     //variables for use by implementing classes.
     private Stage stage;
     private Texture background;
     private InputMultiplexer inputMultiplexer = new InputMultiplexer();
 
-    private ShapeRenderer shapeRenderer = new ShapeRenderer();
-
     //SailHUD-related variables
     private boolean enableMessageHUD = false, enableStatsHUD = false;
     private GameInstance gameInstance;
-
-    //transition variables
-    private boolean fading = false;
-    private float fade = 0;
+    //simulation runs in fixed steps, independent of the frame rate
+    private FixedTimestep timestep = new FixedTimestep();
 
     public PirateScreen(GameInstance gameInstance, Stage stage) {
         this(gameInstance, stage, null);
     }
 
     public PirateScreen(GameInstance gameInstance, Stage stage, Texture background) {
-        this.stage = stage;
+        this.stage = ResourceTracker.track(ResourceTracker.Category.STAGE, getClass().getSimpleName(), stage, 0);
         this.background = background;
         this.gameInstance = gameInstance;
 
@@ -50,8 +48,8 @@ public abstract class PirateScreen implements Screen {
     /***
      * Main screen render;
      * Clear screen and draw background.
+     * Run update for each fixed simulation step due this frame.
      * Run renderInner (used by implementing classes).
-     * Apply fade overlay if fading.
      * Update HUDs.
      * @param delta time since last render
      */
@@ -63,20 +61,25 @@ public abstract class PirateScreen implements Screen {
         if(background != null) {
             drawBackground();
         }
-        renderInner(delta);
-        if (isFading()) {
-            //fade in/out
-            applyFadeOverlay();
+        if(!gameInstance.isPaused()) {
+            int steps = timestep.advance(delta);
+            for (int i = 0; i < steps; i++) {
+                update(timestep.getStep());
+                if (gameInstance.getGame().getScreen() != this) {
+                    //screen switched during the step (e.g. player died) - stop simulating
+                    break;
+                }
+            }
         }
+        renderInner(delta);
         if(gameInstance.isPaused()) {
             //if paused show pausehud
             gameInstance.getPauseHUD().update();
         } else {
-            stage.act(delta);
             if (enableMessageHUD) {
                 gameInstance.getMessageHUD().update();
             }
-            stage.draw();
+            drawStage();
             if (enableStatsHUD) {
                 gameInstance.getStatsHUD().update();
             }
@@ -85,6 +88,54 @@ public abstract class PirateScreen implements Screen {
 
     public abstract void renderInner(float delta);
 
+    /***
+     * Advance the simulation by one fixed step (not called while paused).
+     * Implementing classes update game state here and only draw in renderInner.
+     * @param step length of step (s)
+     */
+    protected void update(float step) {
+        stage.act(step);
+    }
+
+    /***
+     * Draw the screen's current state without updating it (used to snapshot screens for transitions).
+     */
+    public void drawFrame() {
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        if(background != null) {
+            drawBackground();
+        }
+        drawScene();
+        drawStage();
+        if (enableStatsHUD) {
+            gameInstance.getStatsHUD().getStage().draw();
+        }
+    }
+
+    /***
+     * Draw anything behind the stage which renderInner would draw (e.g. the map).
+     */
+    protected void drawScene() {
+    }
+
+    /***
+     * Whether the screen can be rendered on demand (see {@link uk.ac.york.sepr4.render.IdleRenderController}).
+     * Screens are animated (rendered continuously) by default.
+     * @return true if screen only changes on input
+     */
+    @Override
+    public boolean isIdle() {
+        return false;
+    }
+
+    /***
+     * Draw the stage's actors. Can be overridden to draw a simplified view.
+     */
+    protected void drawStage() {
+        stage.draw();
+    }
+
     /***
      * Get lower edge of camera.
      * @return vector representing lower corner (bottom left) of camera pos
@@ -95,27 +146,13 @@ public abstract class PirateScreen implements Screen {
         return pos;
     }
 
-    /***
-     * Apply fade overlay.
-     * (Draw rectangle over screen)
-     */
-    public void applyFadeOverlay() {
-        Gdx.gl.glEnable(GL20.GL_BLEND);
-        Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-        shapeRenderer.setProjectionMatrix(stage.getBatch().getProjectionMatrix());
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(new Color(0, 0, 0, fade));
-        shapeRenderer.rect(0, getCameraLowerBound().y, stage.getWidth(), stage.getHeight());
-        shapeRenderer.end();
-        Gdx.gl.glDisable(GL20.GL_BLEND);
-
-    }
-
     /***
      * Draw screen's background.
      */
     private void drawBackground() {
-        //sets background texture
+        //sets background texture (batch is shared - set projection)
+        stage.getCamera().update();
+        getBatch().setProjectionMatrix(stage.getCamera().combined);
         getBatch().begin();
         Texture texture = background;
         texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
@@ -134,6 +171,8 @@ public abstract class PirateScreen implements Screen {
 
     @Override
     public void show() {
+        //don't catch up on time spent on other screens
+        timestep.reset();
         Gdx.input.setInputProcessor(inputMultiplexer);
     }
 
@@ -3,23 +3,33 @@ package uk.ac.york.sepr4.screen;
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Polygon;
-import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.hud.HealthBar;
+import uk.ac.york.sepr4.io.AutopilotInputProcessor;
+import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.io.SailInputProcessor;
 import uk.ac.york.sepr4.object.building.BuildingManager;
+import uk.ac.york.sepr4.object.entity.Entity;
 import uk.ac.york.sepr4.object.entity.EntityManager;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
 import uk.ac.york.sepr4.object.entity.Player;
-import uk.ac.york.sepr4.object.entity.npc.NPCEntity;
 import uk.ac.york.sepr4.object.item.RewardManager;
-import uk.ac.york.sepr4.object.projectile.Projectile;
-import uk.ac.york.sepr4.utils.AIUtil;
+import uk.ac.york.sepr4.render.FrameCapture;
+import uk.ac.york.sepr4.render.MapIcons;
+import uk.ac.york.sepr4.render.WorldStage;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * SailScreen is main game class. Holds data related to current player including the
@@ -32,31 +42,36 @@ public class SailScreen extends PirateScreen {
 
     private GameInstance gameInstance;
 
-    private static SailScreen sailScreen;
+    private SailInputProcessor sailInputProcessor;
+    private AutopilotInputProcessor autopilotInputProcessor;
 
-    private ShapeRenderer shapeRenderer;
+    //zoom at which the low-detail (map overview + icons) view is used
+    private static final float LOD_ZOOM = 4f;
+    //on-screen size of entity icons in low-detail view
+    private static final float ICON_SIZE = 12f;
+    private boolean lowDetail = false;
 
-    private SailInputProcessor sailInputProcessor;
+    //last world frame before pausing - drawn as the pause backdrop
+    private FrameCapture frozenFrame = new FrameCapture();
+    private boolean frozen = false;
 
-    public static SailScreen getInstance() {
-        return sailScreen;
-    }
+    //health bars shown above damaged entities (by entity identity - entity equality depends on state)
+    private Map<LivingEntity, HealthBar> healthBars = new IdentityHashMap<>();
 
     /**
      * SailScreen Constructor
-     * Adds the player as an actor to the stage.
+     * Creates the player and takes its input.
      *
      * @param gameInstance
      */
     public SailScreen(GameInstance gameInstance) {
-        super(gameInstance, new Stage(new StretchViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight())));
+        super(gameInstance, new WorldStage(new StretchViewport(Gdx.graphics.getWidth(), Gdx.graphics.getHeight()),
+                gameInstance.getRenderContext().getBatch()));
         this.gameInstance = gameInstance;
-        sailScreen = this;
 
         // Debug options (extra logging, collision shape renderer (viewing tile object map))
         if (gameInstance.getGame().DEBUG) {
             Gdx.app.setLogLevel(Application.LOG_DEBUG);
-            shapeRenderer = new ShapeRenderer();
         }
 
         Player player = gameInstance.getEntityManager().getOrCreatePlayer();
@@ -64,65 +79,102 @@ public class SailScreen extends PirateScreen {
         getOrthographicCamera().zoom = player.DEFAULT_ZOOM;
 
         //Set input processor and focus
-        getInputMultiplexer().addProcessor(player);
         sailInputProcessor = new SailInputProcessor(gameInstance);
+        //autopilot first - ignores human sailing input while it is on
+        autopilotInputProcessor = new AutopilotInputProcessor(gameInstance, sailInputProcessor);
+        getInputMultiplexer().addProcessor(autopilotInputProcessor);
+        getInputMultiplexer().addProcessor(player);
         getInputMultiplexer().addProcessor(sailInputProcessor);
 
         setEnableStatsHUD(true);
         setEnableMessageHUD(true);
-
-        //Create and spawn player
-        startGame();
     }
 
-    private void startGame() {
-        getStage().addActor(gameInstance.getEntityManager().getOrCreatePlayer());
+    /***
+     * Get the culling world stage (exposes drawn/culled counters).
+     * @return world stage
+     */
+    public WorldStage getWorldStage() {
+        return (WorldStage) getStage();
     }
 
     /**
-     * Method responsible for rendering the SailScreen on each frame. This clears the screen, updates the map and
-     * visible entities, then calls the stage act. This causes actors (entities) on the stage to move (act).
+     * Method responsible for rendering the SailScreen on each frame. Draws the map (or the frozen frame when paused).
+     * Game state is updated separately in fixed steps (see {@link #update(float)}).
      *
      * @param delta Time between last and current frame.
      */
     @Override
     public void renderInner(float delta) {
-        //if player dead, go to main menu
+        if (gameInstance.isPaused()) {
+            //simulation suspended - only redraw the world as it was when paused
+            if (!frozen) {
+                captureFrozenFrame();
+                frozen = true;
+            }
+            frozenFrame.draw(getBatch());
+            return;
+        }
+        frozen = false;
+
+        //zoomed out - suppress effects and draw simplified view
+        lowDetail = getOrthographicCamera().zoom >= LOD_ZOOM;
+        gameInstance.getEntityManager().getAnimationManager().setLowDetail(lowDetail);
+
+        //draw entities part way between simulation steps
+        getWorldStage().setInterpolation(getTimestep().getAlpha());
+        handleHealthBars();
+        drawWorld();
+    }
+
+    /**
+     * Advance the game by one fixed step. Updates entities, spawns and collisions (which move entities),
+     * then calls the stage act (animates health bars).
+     *
+     * @param step length of step (s)
+     */
+    @Override
+    protected void update(float step) {
         Player player = gameInstance.getEntityManager().getOrCreatePlayer();
-        BuildingManager buildingManager = gameInstance.getBuildingManager();
-        EntityManager entityManager = gameInstance.getEntityManager();
 
-        //check if game over
+        //check if game over (if player dead, go to end screen)
         if (player.isDead()) {
             Gdx.app.debug("SailScreen", "Player Died!");
             gameInstance.fadeSwitchScreen(new EndScreen(gameInstance, false));
             return;
         }
 
-        if (!player.isDying()) {
-            //spawns/despawns entities, handles animations and projectiles
-            entityManager.handleStageEntities(getStage(), delta);
-        } else {
-            //when the player is dying - only process animations
-            entityManager.getAnimationManager().handleEffects(getStage(), delta);
-        }
-        if (gameInstance.getPirateMap().isObjectsEnabled()) {
-            gameInstance.getEntityManager().spawnEnemies(delta);
-            buildingManager.checkBossSpawn();
-        }
+        //autopilot input (if on), then entities, spawning and collisions
+        autopilotInputProcessor.update(step);
+        gameInstance.getWorldSimulation().step(step);
 
-        handleHealthBars();
-        checkCollisions();
+        super.update(step);
+    }
 
-        // Update camera and focus on player.
-        getBatch().setProjectionMatrix(getOrthographicCamera().combined);
+    /***
+     * Focus camera on player and draw the map (and debug outlines).
+     */
+    private void drawWorld() {
+        Player player = gameInstance.getEntityManager().getOrCreatePlayer();
+
+        // Focus camera on player (where the player is drawn this frame) and update.
+        float interpolation = getWorldStage().getInterpolation();
+        getOrthographicCamera().position.set(player.getRenderX(interpolation) + player.getWidth() / 2f,
+                player.getRenderY(interpolation) + player.getHeight() / 2f, 0);
         getOrthographicCamera().update();
-        getOrthographicCamera().position.set(player.getX() + player.getWidth() / 2f, player.getY() + player.getHeight() / 2f, 0);
-        gameInstance.getTiledMapRenderer().setView(getOrthographicCamera());
-        gameInstance.getTiledMapRenderer().render();
+        getBatch().setProjectionMatrix(getOrthographicCamera().combined);
+        if (lowDetail) {
+            getBatch().begin();
+            gameInstance.getMapOverview().draw(getBatch());
+            getBatch().end();
+        } else {
+            gameInstance.getTiledMapRenderer().setView(getOrthographicCamera());
+            gameInstance.getTiledMapRenderer().render();
+        }
 
         //DEBUG - Render outline around game objects/zones.
         if (gameInstance.getGame().DEBUG) {
+            ShapeRenderer shapeRenderer = gameInstance.getRenderContext().getShapeRenderer();
             shapeRenderer.setProjectionMatrix(getBatch().getProjectionMatrix());
             shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
             shapeRenderer.setColor(Color.RED);
@@ -139,110 +191,94 @@ public class SailScreen extends PirateScreen {
         }
     }
 
-    /**
-     * Handles HealthBar elements for damaged actors.
-     */
-    private void handleHealthBars() {
-        Player player = gameInstance.getEntityManager().getOrCreatePlayer();
-        if (player.getHealth() < player.getMaxHealth()) {
-            //if player has less than max health
-            if (!getStage().getActors().contains(player.getHealthBar(), true)) {
-                //if healthbar isnt on stage, add it
-                getStage().addActor(player.getHealthBar());
-            }
-        }
+    @Override
+    protected void drawScene() {
+        drawWorld();
+    }
 
-        for (NPCEntity npcEntity : gameInstance.getEntityManager().getNpcList()) {
-            if (npcEntity.getHealth() < npcEntity.getMaxHealth()) {
-                //if entity has less than max health
-                if (!getStage().getActors().contains(npcEntity.getHealthBar(), true)) {
-                    //if healthbar isnt on stage, add it
-                    getStage().addActor(npcEntity.getHealthBar());
-                }
-            }
-        }
-        Array<Actor> toRemove = new Array<>();
-        for (Actor actors : getStage().getActors()) {
-            if (actors instanceof HealthBar) {
-                HealthBar healthBar = (HealthBar) actors;
-                LivingEntity livingEntity = healthBar.getLivingEntity();
-                if (livingEntity.getHealth() == livingEntity.getMaxHealth() || livingEntity.isDead() || livingEntity.isDying()) {
-                    //if living entity has healed, is dead or is dying --> remove healthbar
-                    toRemove.add(actors);
-                }
-            }
-        }
-        getStage().getActors().removeAll(toRemove, true);
+    /***
+     * Draw the world and its actors once into the frozen frame buffer (no simulation).
+     */
+    private void captureFrozenFrame() {
+        frozenFrame.begin();
+        drawWorld();
+        drawStage();
+        frozenFrame.end();
+    }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        frozenFrame.dispose();
     }
 
-    /**
-     * Checks whether actors have overlapped. In the instance where projectile and entity overlap, deal damage.
+    /***
+     * Nothing moves while paused - only render on input.
      */
-    private void checkCollisions() {
-        checkProjectileCollisions();
-        checkLivingEntityCollisions();
+    @Override
+    public boolean isIdle() {
+        return gameInstance.isPaused();
     }
 
     /***
-     * Nested loop through each entity against others and check if colliding (overlapping).
+     * Draw entities (and health bars) from the simulation.
+     * In low-detail view draw entities as simple icons instead of their sprites.
      */
-    public void checkLivingEntityCollisions() {
-        EntityManager entityManager = gameInstance.getEntityManager();
-        //player/map collision check
-        //TODO: Improve to make player a polygon - cant do without a lot of work
-        for (LivingEntity lE : entityManager.getLivingEntities()) {
-            //Between entity and map
-            if (gameInstance.getPirateMap().isColliding(lE.getRectBounds())) {
-                if (lE.getCollidedWithIsland() == 0) {
-                    lE.collide(false, 0f);
-                }
-            }
-            if (lE.getCollidedWithIsland() >= 1) {
-                lE.setCollidedWithIsland(lE.getCollidedWithIsland() - 1);
-            }
-
-            //between living entities themselves
-            for (LivingEntity lE2 : entityManager.getLivingEntities()) {
-                if (!lE.equals(lE2)) {
-                    if(!lE.isDying() && !lE2.isDying()) {
-                        if (lE.getRectBounds().overlaps(lE2.getRectBounds())) {
-                            if (lE.getColliedWithBoat() == 0) {
-                                lE.collide(true, AIUtil.normalizeAngle((float) (lE.getAngleTowardsEntity(lE2) - Math.PI)));
-                            }
-                            //Gdx.app.log("gs", ""+lE.getColliedWithBoat());
-                        }
-                    }
-                }
-                if (lE.getColliedWithBoat() >= 1) {
-                    lE.setColliedWithBoat(lE.getColliedWithBoat() - 1);
-                }
+    @Override
+    protected void drawStage() {
+        if (!lowDetail) {
+            Array<Entity> entities = getWorldStage().getEntities();
+            entities.clear();
+            gameInstance.getEntityManager().getEntities(entities);
+            super.drawStage();
+            return;
+        }
+        //keep icons the same size on screen regardless of zoom
+        float size = ICON_SIZE * getOrthographicCamera().zoom;
+        Batch batch = getBatch();
+        batch.begin();
+        for (LivingEntity livingEntity : gameInstance.getEntityManager().getLivingEntities()) {
+            if (livingEntity.isDead()) {
+                continue;
             }
+            batch.setColor(MapIcons.getColour(livingEntity));
+            Vector2 centre = livingEntity.getRenderCentre(getWorldStage().getInterpolation());
+            batch.draw(FileManager.PIXEL, centre.x - size / 2, centre.y - size / 2, size, size);
         }
+        batch.setColor(Color.WHITE);
+        batch.end();
     }
 
-    /***
-     * Loop through all projectiles and entities and check if colliding (overlapping).
+    /**
+     * Handles HealthBar elements for damaged entities - adds a bar for each damaged entity and removes bars
+     * of entities which have healed, died or despawned.
      */
-    private void checkProjectileCollisions() {
-        EntityManager entityManager = gameInstance.getEntityManager();
-        for (Projectile projectile : entityManager.getProjectileManager().getProjectileList()) {
-            if(gameInstance.getPirateMap().isColliding(projectile.getRectBounds())) {
-                //if projectile collides with map objects - remove
-                projectile.setActive(false);
-                return;
-            }
-
-            for (LivingEntity livingEntity : entityManager.getLivingEntities()) {
-                if (projectile.getShooter() != livingEntity && projectile.getRectBounds().overlaps(livingEntity.getRectBounds())) {
-                    //if bullet overlaps LE and shooter not LE
-                    if (!(livingEntity.isDying() || livingEntity.isDead())) {
-                        livingEntity.damage(projectile);
-                        Gdx.app.debug("SailScreen", "LivingEntity damaged by projectile.");
-                        //kill projectile
-                        projectile.setActive(false);
-                    }
+    private void handleHealthBars() {
+        List<LivingEntity> livingEntities = gameInstance.getEntityManager().getLivingEntities();
+        //by identity, as the bars are (List.contains would use entity equals, for every bar)
+        Set<LivingEntity> present = Collections.newSetFromMap(new IdentityHashMap<>());
+        present.addAll(livingEntities);
+        for (LivingEntity livingEntity : livingEntities) {
+            if (livingEntity.getHealth() < livingEntity.getMaxHealth() && !livingEntity.isDead() && !livingEntity.isDying()) {
+                HealthBar healthBar = healthBars.get(livingEntity);
+                if (healthBar == null) {
+                    //if healthbar isnt on stage, add it
+                    healthBar = new HealthBar(livingEntity);
+                    healthBars.put(livingEntity, healthBar);
+                    getStage().addActor(healthBar);
                 }
+                healthBar.update();
+            }
+        }
+        Iterator<Map.Entry<LivingEntity, HealthBar>> iterator = healthBars.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LivingEntity, HealthBar> entry = iterator.next();
+            LivingEntity livingEntity = entry.getKey();
+            if (livingEntity.getHealth() >= livingEntity.getMaxHealth() || livingEntity.isDead() || livingEntity.isDying()
+                    || !present.contains(livingEntity)) {
+                //if living entity has healed, is dead, is dying or has gone --> remove healthbar
+                entry.getValue().remove();
+                iterator.remove();
             }
         }
     }
@@ -3,6 +3,7 @@ package uk.ac.york.sepr4.screen;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.render.CrossFade;
 
 /***
  * Screen class used to fade between PirateScreens.
@@ -14,14 +15,16 @@ public class TransitionScreen implements Screen {
     private GameInstance gameInstance;
 
     //fading variables
-    private boolean fading = true, dispose;
-    private float fadeTime = 0.4f, fadeTimer;
+    private boolean captured = false, dispose;
+    private float fadeTime = 0.8f, fadeTimer;
+    //largest step per frame (capturing the snapshots makes the first delta long)
+    private static final float MAX_DELTA = 1 / 30f;
 
     /***
      * Transition Constructor
      * @param gameInstance current gameinstance
-     * @param fadeOut screen to fade in
-     * @param fadeIn screen to fade out
+     * @param fadeOut screen to fade out
+     * @param fadeIn screen to fade in
      * @param dispose whether to dispose fade out screen when animation finished.
      */
     public TransitionScreen(GameInstance gameInstance, PirateScreen fadeOut, PirateScreen fadeIn, boolean dispose) {
@@ -29,43 +32,31 @@ public class TransitionScreen implements Screen {
         this.fadeIn = fadeIn;
         this.fadeOut = fadeOut;
         this.dispose = dispose;
-
-        fadeIn.setFading(true);
-        fadeIn.setFade(0);
-        fadeOut.setFade(0);
-        fadeOut.setFading(true);
     }
 
+    /***
+     * Snapshot both screens once, then cross-fade between the snapshots.
+     * Neither screen is updated during the transition.
+     * @param delta time since last render
+     */
     @Override
     public void render(float delta) {
-
-        if (fading) {
-            //fading out
-            fadeTimer += delta;
-            fadeOut.setFade(fadeTimer / fadeTime);
-            fadeOut.render(delta);
-
-        } else {
-            //fading in
-            fadeTimer -= delta;
-            fadeIn.setFade(fadeTimer / fadeTime);
-            fadeIn.render(delta);
+        CrossFade crossFade = gameInstance.getRenderContext().getCrossFade();
+        if (!captured) {
+            crossFade.capture(fadeOut, fadeIn);
+            captured = true;
         }
 
-        //finished fading in or out
-        if (fadeTimer >= fadeTime || fadeTimer < 0) {
-            if (fading) {
-                fading = false;
-            } else {
-                //switch to fadeIn screen
-                fadeOut.setFading(false);
-                fadeIn.setFading(false);
-                gameInstance.switchScreen(fadeIn);
-                if (dispose) {
-                    //dispose of fadeOut screen
-                    fadeOut.dispose();
-                }
-                return;
+        fadeTimer += Math.min(delta, MAX_DELTA);
+        crossFade.draw(gameInstance.getRenderContext().getBatch(), Math.min(fadeTimer / fadeTime, 1f));
+
+        //finished fading
+        if (fadeTimer >= fadeTime) {
+            //switch to fadeIn screen
+            gameInstance.switchScreen(fadeIn);
+            if (dispose) {
+                //dispose of fadeOut screen
+                fadeOut.dispose();
             }
         }
     }
@@ -0,0 +1,120 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/***
+ * Owner of disposable resources (e.g. a game instance or screen).
+ *
+ * Owned resources belong to this scope only and are disposed with it.
+ * Shared resources are created once per key and reference counted - every scope which acquires
+ * a key holds one reference, and the resource is disposed when the last scope releases it.
+ * Scopes must only be used from the GL thread.
+ */
+public class ResourceScope implements Disposable {
+
+    //key to shared resource, across all scopes
+    private static Map<String, Shared> shared = new HashMap<>();
+    @Getter
+    private static int liveScopes = 0;
+
+    @Getter
+    private String name;
+    private List<Disposable> owned = new ArrayList<>();
+    private Set<String> acquired = new LinkedHashSet<>();
+    private boolean disposed = false;
+
+    public ResourceScope(String name) {
+        this.name = name;
+        liveScopes++;
+    }
+
+    /***
+     * Take ownership of a resource - it is disposed when this scope is.
+     * @param resource resource to own
+     * @return resource (for chaining)
+     */
+    public <T extends Disposable> T own(T resource) {
+        owned.add(resource);
+        return resource;
+    }
+
+    /***
+     * Get a shared resource, creating it if no other scope holds it.
+     * A scope holds at most one reference to each key.
+     * @param key unique key of the resource
+     * @param create creates the resource if not already loaded
+     * @return shared resource
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Disposable> T acquire(String key, Supplier<T> create) {
+        Shared resource = shared.get(key);
+        if (resource == null) {
+            resource = new Shared(create.get());
+            shared.put(key, resource);
+        }
+        if (acquired.add(key)) {
+            resource.references++;
+        }
+        return (T) resource.resource;
+    }
+
+    /***
+     * Dispose owned resources (in reverse order of ownership) and release shared resources.
+     * Does nothing if already disposed.
+     */
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        liveScopes--;
+
+        for (int i = owned.size() - 1; i >= 0; i--) {
+            owned.get(i).dispose();
+        }
+        int released = 0;
+        for (String key : acquired) {
+            Shared resource = shared.get(key);
+            if (--resource.references == 0) {
+                shared.remove(key);
+                resource.resource.dispose();
+                released++;
+            }
+        }
+        Gdx.app.debug("ResourceScope", name + ": disposed " + owned.size() + " owned and "
+                + released + "/" + acquired.size() + " shared resources");
+        owned.clear();
+        acquired.clear();
+    }
+
+    public int getOwnedCount() {
+        return owned.size();
+    }
+
+    /***
+     * @return number of shared resources currently loaded
+     */
+    public static int getSharedCount() {
+        return shared.size();
+    }
+
+    private static class Shared {
+        private Disposable resource;
+        private int references = 0;
+
+        private Shared(Disposable resource) {
+            this.resource = resource;
+        }
+    }
+}
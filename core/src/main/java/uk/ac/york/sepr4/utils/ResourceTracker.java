@@ -0,0 +1,184 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import lombok.Getter;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/***
+ * Counts live GPU/native resources (and their estimated memory) by category and creation site.
+ *
+ * GL resources (textures, fonts, frame buffers) are live until disposed - disposal is detected
+ * from their GL handle, so a resource which is never disposed stays in the report (and in VRAM).
+ * Pixmaps are live until released. Stages are live until garbage collected.
+ * Only used from the GL thread.
+ */
+public class ResourceTracker {
+
+    public enum Category {
+        TEXTURE, PIXMAP, FONT, FRAMEBUFFER, STAGE
+    }
+
+    private static List<Entry> entries = new ArrayList<>();
+
+    /***
+     * Track a newly created resource.
+     * @param category type of resource
+     * @param site where it was created (e.g. "FileManager CORE")
+     * @param resource resource to track
+     * @param bytes estimated memory used (0 if not known)
+     * @return resource (for chaining)
+     */
+    public static <T> T track(Category category, String site, T resource, long bytes) {
+        entries.add(new Entry(category, site, resource, bytes));
+        return resource;
+    }
+
+    /***
+     * Track a texture, estimating its memory as 32 bit RGBA.
+     */
+    public static Texture track(String site, Texture texture) {
+        return track(Category.TEXTURE, site, texture, (long) texture.getWidth() * texture.getHeight() * 4);
+    }
+
+    /***
+     * Track a frame buffer (colour buffer memory, plus mipmaps if used).
+     */
+    public static FrameBuffer track(String site, FrameBuffer frameBuffer, boolean mipmaps) {
+        long bytes = (long) frameBuffer.getWidth() * frameBuffer.getHeight() * 4;
+        return track(Category.FRAMEBUFFER, site, frameBuffer, mipmaps ? bytes * 4 / 3 : bytes);
+    }
+
+    /***
+     * Track a font (memory of its glyph page textures).
+     */
+    public static BitmapFont track(String site, BitmapFont font) {
+        long bytes = 0;
+        for (TextureRegion region : font.getRegions()) {
+            bytes += (long) region.getTexture().getWidth() * region.getTexture().getHeight() * 4;
+        }
+        return track(Category.FONT, site, font, bytes);
+    }
+
+    /***
+     * Stop tracking a resource (for resources whose disposal can not be detected, e.g. Pixmaps).
+     * @param resource resource which has been disposed
+     */
+    public static void release(Object resource) {
+        entries.removeIf(entry -> entry.get() == resource);
+    }
+
+    /***
+     * Drop resources which have been disposed (or collected, for stages).
+     */
+    public static void update() {
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().isLive()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /***
+     * @return live totals by category
+     */
+    public static Map<Category, Totals> getTotalsByCategory() {
+        update();
+        Map<Category, Totals> totals = new TreeMap<>();
+        for (Entry entry : entries) {
+            totals.computeIfAbsent(entry.category, category -> new Totals()).add(entry.bytes);
+        }
+        return totals;
+    }
+
+    /***
+     * @return live totals by category and creation site
+     */
+    public static Map<String, Totals> getTotalsBySite() {
+        update();
+        Map<String, Totals> totals = new TreeMap<>();
+        for (Entry entry : entries) {
+            totals.computeIfAbsent(entry.category + " " + entry.site, site -> new Totals()).add(entry.bytes);
+        }
+        return totals;
+    }
+
+    /***
+     * Log the live resources by category and creation site.
+     */
+    public static void logReport() {
+        Map<String, Totals> bySite = getTotalsBySite();
+        for (Map.Entry<String, Totals> site : bySite.entrySet()) {
+            Gdx.app.log("ResourceReport", String.format("%-60s %5d %8d KB",
+                    site.getKey(), site.getValue().count, site.getValue().bytes / 1024));
+        }
+        for (Map.Entry<Category, Totals> category : getTotalsByCategory().entrySet()) {
+            Gdx.app.log("ResourceReport", "Total " + category.getKey() + ": " + category.getValue().count
+                    + " (" + category.getValue().bytes / 1024 + " KB)");
+        }
+    }
+
+    public static class Totals {
+        @Getter
+        private int count;
+        @Getter
+        private long bytes;
+
+        private void add(long bytes) {
+            this.count++;
+            this.bytes += bytes;
+        }
+    }
+
+    private static class Entry {
+        private Category category;
+        private String site;
+        private long bytes;
+        //GL resources are held strongly - if never disposed they are a leak even once unreachable
+        private Object resource;
+        private WeakReference<Object> weakResource;
+
+        private Entry(Category category, String site, Object resource, long bytes) {
+            this.category = category;
+            this.site = site;
+            this.bytes = bytes;
+            if (category == Category.STAGE) {
+                this.weakResource = new WeakReference<>(resource);
+            } else {
+                this.resource = resource;
+            }
+        }
+
+        private Object get() {
+            return weakResource != null ? weakResource.get() : resource;
+        }
+
+        private boolean isLive() {
+            switch (category) {
+                case TEXTURE:
+                    return ((Texture) resource).getTextureObjectHandle() != 0;
+                case FRAMEBUFFER:
+                    return ((FrameBuffer) resource).getColorBufferTexture().getTextureObjectHandle() != 0;
+                case FONT:
+                    //generated fonts own their page textures
+                    BitmapFont font = (BitmapFont) resource;
+                    return font.getRegions().size > 0 && font.getRegion().getTexture().getTextureObjectHandle() != 0;
+                case STAGE:
+                    return weakResource.get() != null;
+                default:
+                    //released explicitly
+                    return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+import uk.ac.york.sepr4.GameInstance;
+
+import java.util.Map;
+
+/***
+ * Logs frame rate, heap, garbage collection and live resources every minute during soak runs,
+ * so leaks and slowdowns show up as trends in the log.
+ */
+public class SoakMonitor {
+
+    //time between logs (ms)
+    private static final long INTERVAL = 60000;
+
+    private long start = TimeUtils.millis(), lastLog = start;
+    private int frames = 0;
+
+    /***
+     * Count a frame and log if a minute has passed.
+     * @param gameInstance current game (may be null before the first game)
+     */
+    public void update(GameInstance gameInstance) {
+        frames++;
+        long now = TimeUtils.millis();
+        if (now - lastLog < INTERVAL) {
+            return;
+        }
+        Gdx.app.log("Soak", String.format("%d min: %.1f FPS (mean over the minute), %s",
+                (now - start) / 60000, frames * 1000f / (now - lastLog), RuntimeStats.describe()));
+        frames = 0;
+        lastLog = now;
+
+        StringBuilder resources = new StringBuilder("Scopes: ").append(ResourceScope.getLiveScopes())
+                .append(", shared: ").append(ResourceScope.getSharedCount());
+        for (Map.Entry<ResourceTracker.Category, ResourceTracker.Totals> category
+                : ResourceTracker.getTotalsByCategory().entrySet()) {
+            resources.append(", ").append(category.getKey()).append(": ").append(category.getValue().getCount())
+                    .append(" (").append(category.getValue().getBytes() / 1024).append(" KB)");
+        }
+        Gdx.app.log("Soak", resources.toString());
+        if (gameInstance != null) {
+            Gdx.app.log("Soak", "NPCs: " + gameInstance.getEntityManager().getNpcList().size
+                    + ", projectiles: " + gameInstance.getEntityManager().getProjectileManager().getProjectileList().size);
+        }
+    }
+}
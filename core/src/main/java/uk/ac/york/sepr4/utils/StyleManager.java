@@ -15,18 +15,33 @@ public class StyleManager {
     public static final FreeTypeFontGenerator generator =
             new FreeTypeFontGenerator(Gdx.files.internal("font/PiecesofEight.ttf"));
 
+    //generated fonts, shared by every element of the same size and colour
+    private static final ResourceScope fonts = new ResourceScope("Fonts");
+
     /***
      * Generates a BitmapFont of specified size and colour.
+     * Fonts are generated once and shared - they must not be modified or disposed by callers.
      * @param size specified size
      * @param color specified colour
      * @return instance of BitmapFont
      */
     public static BitmapFont generatePirateFont(Integer size, Color color) {
-        FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
-        parameter.size = size;
-        parameter.color = color;
+        String key = "font/" + size + "/" + color;
+        return fonts.acquire(key, () -> {
+            FreeTypeFontGenerator.FreeTypeFontParameter parameter = new FreeTypeFontGenerator.FreeTypeFontParameter();
+            parameter.size = size;
+            parameter.color = color;
+
+            return ResourceTracker.track("StyleManager " + key, generator.generateFont(parameter));
+        });
+    }
 
-        return generator.generateFont(parameter);
+    /***
+     * Dispose generated fonts and the font generator (on exit).
+     */
+    public static void dispose() {
+        fonts.dispose();
+        generator.dispose();
     }
 
     /***
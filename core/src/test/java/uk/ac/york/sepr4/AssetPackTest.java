@@ -0,0 +1,47 @@
+package uk.ac.york.sepr4;
+
+import com.badlogic.gdx.files.FileHandle;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.york.sepr4.io.AssetPack;
+import uk.ac.york.sepr4.io.AssetPackWriter;
+import uk.ac.york.sepr4.io.PackFiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class AssetPackTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void packTest() throws IOException {
+        File assets = folder.newFolder("assets");
+        new File(assets, "map").mkdirs();
+        Files.write(new File(assets, "map/PirateMap.tmx").toPath(), "<map/>".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(assets, "map/tileset.tsx").toPath(), "<tileset/>".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(assets, "colleges.json").toPath(), "[]".getBytes(StandardCharsets.UTF_8));
+
+        //pack is written inside the assets directory, and must not include itself
+        File packFile = new File(assets, "assets.pack");
+        Assert.assertEquals(3, AssetPackWriter.write(assets, packFile));
+        Assert.assertEquals(3, AssetPackWriter.write(assets, packFile));
+
+        PackFiles files = new PackFiles(null, AssetPack.open(packFile));
+        FileHandle map = files.internal("map/PirateMap.tmx");
+        Assert.assertTrue(map.exists());
+        Assert.assertEquals("<map/>", map.readString());
+        Assert.assertEquals(6, map.length());
+
+        //navigation stays inside the pack
+        Assert.assertTrue(map.parent().isDirectory());
+        Assert.assertEquals("<tileset/>", map.sibling("tileset.tsx").readString());
+        Assert.assertEquals(1, map.parent().list(".tsx").length);
+        Assert.assertEquals(2, files.internal("").list().length);
+    }
+}
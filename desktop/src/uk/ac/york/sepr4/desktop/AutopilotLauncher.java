@@ -0,0 +1,91 @@
+package uk.ac.york.sepr4.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.TimeUtils;
+import uk.ac.york.sepr4.bot.Autopilot;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+import uk.ac.york.sepr4.utils.RuntimeStats;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+/***
+ * Soak tool: the autopilot plays the sailing world headless, as fast as possible, for a number of minutes.
+ * A new world (next seed) is started whenever the player dies. Every minute logs steps per second, heap,
+ * garbage collection and entity counts. No shops headless - use the soak task for the full game.
+ * Run from the assets directory (soakHeadless Gradle task). Usage: AutopilotLauncher [minutes] [seed]
+ */
+public class AutopilotLauncher {
+
+	private static final int DEFAULT_MINUTES = 60;
+	private static final String MAP_PATH = "map/PirateMap.tmx";
+	//time between logs (ms)
+	private static final long LOG_INTERVAL = 60000;
+
+	public static void main (String[] arg) {
+		final int minutes = arg.length > 0 ? Integer.parseInt(arg[0]) : DEFAULT_MINUTES;
+		final long seed = arg.length > 1 ? Long.parseLong(arg[1]) : 1L;
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+				TaskPool taskPool = new TaskPool("Soak");
+				try {
+					run(taskPool, minutes, seed);
+				} catch (RuntimeException e) {
+					Gdx.app.error("Soak", "Soak run failed", e);
+					System.exit(1);
+				} finally {
+					taskPool.dispose();
+				}
+				Gdx.app.exit();
+			}
+		});
+	}
+
+	private static void run(TaskPool taskPool, int minutes, long seed) {
+		TiledMap tiledMap = new TmxMapLoader().load(MAP_PATH);
+		//map preprocessing is shared by every world
+		PirateMap pirateMap = PirateMap.load(Gdx.files.internal(MAP_PATH), tiledMap, taskPool);
+		pirateMap.join();
+		tiledMap.dispose();
+
+		float step = FixedTimestep.DEFAULT_STEP;
+		long start = TimeUtils.millis(), end = start + minutes * 60000L, lastLog = start;
+		long steps = 0, totalSteps = 0;
+		int games = 0;
+		World world = null;
+		Autopilot autopilot = null;
+		while (TimeUtils.millis() < end) {
+			if (world == null || world.getEntityManager().getOrCreatePlayer().isDead()) {
+				world = new World(pirateMap, taskPool, seed + games);
+				world.join();
+				Player player = world.getEntityManager().getOrCreatePlayer();
+				autopilot = new Autopilot(world, new Autopilot.PlayerControls(player));
+				games++;
+			}
+			autopilot.update(step);
+			world.getWorldSimulation().step(step);
+			steps++;
+
+			long now = TimeUtils.millis();
+			if (now - lastLog >= LOG_INTERVAL) {
+				Gdx.app.log("Soak", String.format("%d min: %.0f steps/s, game %d, %s",
+						(now - start) / 60000, steps * 1000f / (now - lastLog), games, RuntimeStats.describe()));
+				Gdx.app.log("Soak", "NPCs: " + world.getEntityManager().getNpcList().size
+						+ ", projectiles: " + world.getEntityManager().getProjectileManager().getProjectileList().size);
+				totalSteps += steps;
+				steps = 0;
+				lastLog = now;
+			}
+		}
+		totalSteps += steps;
+		Gdx.app.log("Soak", String.format("Finished: %d steps (%.0fs game time) over %d games in %d min",
+				totalSteps, totalSteps * step, games, minutes));
+	}
+}
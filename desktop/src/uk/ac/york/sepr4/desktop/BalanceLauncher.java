@@ -0,0 +1,124 @@
+package uk.ac.york.sepr4.desktop;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import uk.ac.york.sepr4.balance.BalanceReport;
+import uk.ac.york.sepr4.balance.Engagement;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.building.College;
+import uk.ac.york.sepr4.utils.PhaseTimer;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/***
+ * Balancing tool: fights a scripted player against NPCs of each difficulty, and against each college's
+ * boats then boss, many times over on all cores. Logs win rate and time-to-kill tables.
+ * Run from the assets directory (balance Gradle task). Usage: BalanceLauncher [runs per scenario] [seed]
+ */
+public class BalanceLauncher {
+
+	private static final int DEFAULT_RUNS = 200, MAX_DIFFICULTY = 10;
+	//time allowed per opponent (s)
+	private static final float TIME_LIMIT = 120f;
+
+	public static void main (String[] arg) {
+		final int runs = arg.length > 0 ? Integer.parseInt(arg[0]) : DEFAULT_RUNS;
+		final long seed = arg.length > 1 ? Long.parseLong(arg[1]) : 1L;
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				TaskPool taskPool = new TaskPool("Balance");
+				try {
+					run(taskPool, runs, seed);
+				} catch (RuntimeException e) {
+					Gdx.app.setLogLevel(Application.LOG_INFO);
+					Gdx.app.error("Balance", "Balance run failed", e);
+					System.exit(1);
+				} finally {
+					taskPool.dispose();
+				}
+				Gdx.app.exit();
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void run(TaskPool taskPool, int runs, long seed) {
+		PhaseTimer timer = new PhaseTimer("Balance");
+		PirateMap map = Engagement.openWater(taskPool);
+		Array<College> colleges = new Json().fromJson(Array.class, College.class, Gdx.files.internal("data/colleges.json"));
+
+		BalanceReport boats = new BalanceReport("Enemy boats by difficulty (" + runs + " runs each)");
+		BalanceReport monsters = new BalanceReport("Monsters by difficulty (" + runs + " runs each, cannot be killed)");
+		BalanceReport collegeRuns = new BalanceReport("Colleges: boats until boss threshold, then boss (" + runs + " runs each)");
+		List<Scenario> scenarios = new ArrayList<>();
+		long next = seed;
+		for (int run = 0; run < runs; run++) {
+			for (int difficulty = 1; difficulty <= MAX_DIFFICULTY; difficulty++) {
+				scenarios.add(new Scenario(boats, "difficulty " + difficulty,
+						new Engagement(map, taskPool, next++, TIME_LIMIT).boat(difficulty, Optional.empty(), false)));
+				scenarios.add(new Scenario(monsters, "difficulty " + difficulty,
+						new Engagement(map, taskPool, next++, TIME_LIMIT).monster(difficulty)));
+			}
+			for (College college : colleges) {
+				Engagement engagement = new Engagement(map, taskPool, next++, TIME_LIMIT);
+				for (int i = 0; i < college.getBossSpawnThreshold(); i++) {
+					engagement.boat(college.getEnemyDifficulty(), Optional.of(college), false);
+				}
+				engagement.boat(college.getBossDifficulty(), Optional.of(college), true);
+				scenarios.add(new Scenario(collegeRuns, college.getName() + " (" + college.getBossSpawnThreshold()
+						+ "x d" + college.getEnemyDifficulty() + ", boss d" + college.getBossDifficulty() + ")", engagement));
+			}
+		}
+		timer.mark("Create " + scenarios.size() + " engagements");
+
+		//every world logs as it is created - keep the output to the tables
+		Gdx.app.setLogLevel(Application.LOG_NONE);
+		ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		List<Future<Engagement.Result>> results;
+		try {
+			List<Callable<Engagement.Result>> tasks = new ArrayList<>();
+			for (Scenario scenario : scenarios) {
+				tasks.add(scenario.engagement::run);
+			}
+			results = pool.invokeAll(tasks);
+		} finally {
+			pool.shutdown();
+		}
+		//results are added in order, so tables do not depend on which thread finished first
+		for (int i = 0; i < scenarios.size(); i++) {
+			Scenario scenario = scenarios.get(i);
+			scenario.report.add(scenario.name, TaskPool.join(results.get(i)));
+		}
+		Gdx.app.setLogLevel(Application.LOG_INFO);
+		timer.mark("Run engagements on " + pool.getParallelism() + " threads");
+
+		for (BalanceReport report : new BalanceReport[] {boats, monsters, collegeRuns}) {
+			for (String line : report.format()) {
+				Gdx.app.log("Balance", line);
+			}
+		}
+	}
+
+	private static class Scenario {
+		private BalanceReport report;
+		private String name;
+		private Engagement engagement;
+
+		private Scenario(BalanceReport report, String name, Engagement engagement) {
+			this.report = report;
+			this.name = name;
+			this.engagement = engagement;
+		}
+	}
+}
@@ -10,6 +10,8 @@ public class DesktopLauncher {
         config.title = "A Pirate Game";
         config.width = 1920;
         config.height = 1080;
-		new LwjglApplication(new APirateGame(), config);
+		//--autopilot: the game plays itself (soak runs, see soak Gradle task)
+		boolean autopilot = arg.length > 0 && arg[0].equals("--autopilot");
+		new LwjglApplication(new APirateGame(autopilot), config);
 	}
 }
@@ -0,0 +1,42 @@
+package uk.ac.york.sepr4.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.resolvers.LocalFileHandleResolver;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import uk.ac.york.sepr4.io.MapCooker;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+/***
+ * Build tool: processes a TMX map and writes its cooked sidecar (see MapCooker).
+ * Run from the assets directory (cookMap Gradle task). Usage: MapCookerLauncher [map/PirateMap.tmx]
+ */
+public class MapCookerLauncher {
+	public static void main (String[] arg) {
+		final String path = arg.length > 0 ? arg[0] : "map/PirateMap.tmx";
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				//tileset textures are "uploaded" to a GL that does nothing - only map data is needed
+				Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+				TaskPool taskPool = new TaskPool("Cooker");
+				try {
+					FileHandle mapFile = Gdx.files.local(path);
+					PirateMap pirateMap = new PirateMap(new TmxMapLoader(new LocalFileHandleResolver()).load(mapFile.path()), taskPool);
+					pirateMap.join();
+					FileHandle sidecar = MapCooker.write(MapCooker.cook(pirateMap), mapFile);
+					Gdx.app.log("MapCooker", "Wrote " + sidecar.path() + " (" + sidecar.length() + " bytes)");
+				} catch (RuntimeException e) {
+					Gdx.app.error("MapCooker", "Failed to cook " + path, e);
+					System.exit(1);
+				} finally {
+					taskPool.dispose();
+				}
+				Gdx.app.exit();
+			}
+		});
+	}
+}
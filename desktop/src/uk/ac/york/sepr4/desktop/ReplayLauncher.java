@@ -0,0 +1,100 @@
+package uk.ac.york.sepr4.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.replay.InputLog;
+import uk.ac.york.sepr4.replay.InputReplay;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+import uk.ac.york.sepr4.utils.PhaseTimer;
+import uk.ac.york.sepr4.utils.StepTimings;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/***
+ * Performance tool: replays a recorded game (seed and input) headless on fixed steps as fast as possible,
+ * and reports time per simulation phase. Two builds replaying the same file play identical games,
+ * so their timings can be compared - the final state is logged to check the games did not diverge.
+ * Run from the assets directory (replay Gradle task). Usage: ReplayLauncher [replay file]
+ */
+public class ReplayLauncher {
+
+	//written by GameInstance when a game ends
+	private static final String DEFAULT_REPLAY = "replays/last.replay";
+	private static final String MAP_PATH = "map/PirateMap.tmx";
+
+	public static void main (String[] arg) {
+		final String replayPath = arg.length > 0 ? arg[0] : DEFAULT_REPLAY;
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+				TaskPool taskPool = new TaskPool("Replay");
+				try {
+					run(taskPool, readLog(Gdx.files.local(replayPath)));
+				} catch (RuntimeException e) {
+					Gdx.app.error("Replay", "Replay failed", e);
+					System.exit(1);
+				} finally {
+					taskPool.dispose();
+				}
+				Gdx.app.exit();
+			}
+		});
+	}
+
+	private static InputLog readLog(FileHandle file) {
+		try (InputStream in = new BufferedInputStream(file.read())) {
+			return InputLog.read(in);
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Could not read replay " + file.path(), e);
+		}
+	}
+
+	private static void run(TaskPool taskPool, InputLog log) {
+		PhaseTimer timer = new PhaseTimer("Replay");
+		TiledMap tiledMap = new TmxMapLoader().load(MAP_PATH);
+		World world = new World(PirateMap.load(Gdx.files.internal(MAP_PATH), tiledMap, taskPool), taskPool, log.getSeed());
+		world.join();
+		tiledMap.dispose();
+		InputReplay replay = new InputReplay(log, world);
+		StepTimings timings = new StepTimings();
+		world.getWorldSimulation().setTimings(Optional.of(timings));
+		Player player = world.getEntityManager().getOrCreatePlayer();
+		timer.mark("Load world (seed " + log.getSeed() + ", " + log.size() + " inputs)");
+
+		float step = FixedTimestep.DEFAULT_STEP;
+		long start = TimeUtils.nanoTime();
+		//the game stops stepping once the player is dead (see SailScreen)
+		while (world.getWorldSimulation().getTicks() < log.getSteps() && !player.isDead()) {
+			replay.apply();
+			world.getWorldSimulation().step(step);
+		}
+		long elapsed = TimeUtils.nanoTime() - start;
+		timer.mark("Replay");
+
+		long steps = world.getWorldSimulation().getTicks();
+		double seconds = elapsed / 1e9;
+		Gdx.app.log("Replay", String.format("%d of %d steps (%.0fs game time) in %.2fs: %.0f steps/s",
+				steps, log.getSteps(), steps * step, seconds, steps / seconds));
+		for (String line : timings.format()) {
+			Gdx.app.log("Replay", line);
+		}
+		//compare between builds - a difference means the replay diverged (e.g. a gameplay change)
+		Gdx.app.log("Replay", String.format("Final state: player at (%.2f, %.2f), health %.1f, gold %d, xp %d, NPCs %d%s",
+				player.getX(), player.getY(), player.getHealth(), player.getBalance(), player.getXp(),
+				world.getEntityManager().getNpcList().size, replay.isFinished() ? "" : " (inputs left over)"));
+	}
+}
@@ -0,0 +1,75 @@
+package uk.ac.york.sepr4.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.TimeUtils;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+import uk.ac.york.sepr4.utils.PhaseTimer;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+/***
+ * Performance tool: runs the sailing world headless (no window or GPU) for a number of fixed steps
+ * as fast as possible and reports steps per second. Only the sim module is used - no textures are loaded,
+ * and the GL (which does nothing) is only needed for the map's tilesets if its cooked sidecar is stale.
+ * The world is seeded, so a run repeats exactly and timings can be compared between builds.
+ * Run from the assets directory (simulate Gradle task). Usage: SimulationLauncher [steps] [seed]
+ */
+public class SimulationLauncher {
+
+	private static final int DEFAULT_STEPS = 36000;
+	private static final String MAP_PATH = "map/PirateMap.tmx";
+
+	public static void main (String[] arg) {
+		final int steps = arg.length > 0 ? Integer.parseInt(arg[0]) : DEFAULT_STEPS;
+		final long seed = arg.length > 1 ? Long.parseLong(arg[1]) : 1L;
+		new HeadlessApplication(new ApplicationAdapter() {
+			@Override
+			public void create() {
+				Gdx.gl = Gdx.gl20 = HeadlessGL.create();
+				TaskPool taskPool = new TaskPool("Simulation");
+				try {
+					run(taskPool, steps, seed);
+				} catch (RuntimeException e) {
+					Gdx.app.error("Simulation", "Simulation failed", e);
+					System.exit(1);
+				} finally {
+					taskPool.dispose();
+				}
+				Gdx.app.exit();
+			}
+		});
+	}
+
+	private static void run(TaskPool taskPool, int steps, long seed) {
+		PhaseTimer timer = new PhaseTimer("Simulation");
+		TiledMap tiledMap = new TmxMapLoader().load(MAP_PATH);
+		World world = new World(PirateMap.load(Gdx.files.internal(MAP_PATH), tiledMap, taskPool), taskPool, seed);
+		world.join();
+		tiledMap.dispose();
+		Player player = world.getEntityManager().getOrCreatePlayer();
+		timer.mark("Load world");
+
+		float step = FixedTimestep.DEFAULT_STEP;
+		long start = TimeUtils.nanoTime();
+		int completed = 0;
+		while (completed < steps && !player.isDead()) {
+			world.getWorldSimulation().step(step);
+			completed++;
+		}
+		long elapsed = TimeUtils.nanoTime() - start;
+		timer.mark("Simulate");
+
+		double seconds = elapsed / 1e9;
+		Gdx.app.log("Simulation", String.format("%d steps (%.0fs game time) in %.2fs: %.0f steps/s, %.3fms/step",
+				completed, completed * step, seconds, completed / seconds, elapsed / 1e6 / Math.max(completed, 1)));
+		Gdx.app.log("Simulation", "NPCs: " + world.getEntityManager().getNpcList().size
+				+ ", projectiles: " + world.getEntityManager().getProjectileManager().getProjectileList().size
+				+ (player.isDead() ? " (player died)" : ""));
+	}
+}
@@ -0,0 +1,100 @@
+package uk.ac.york.sepr4;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.ac.york.sepr4.balance.Engagement;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.npc.NPCBuilder;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * WorldSimulation.step with a ring of enemy boats around the player on open water (no islands or spawning).
+ * Each invocation plays STEPS steps of a fresh seeded world, so every invocation simulates the same fight.
+ * Run from the assets directory (jmh Gradle task) - building files are read through the headless backend.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldStepBenchmark {
+
+    //10 seconds of game time
+    private static final int STEPS = 600;
+    private static final long SEED = 1L;
+    //boats start this far from the player - in range, so they fight from the first step
+    private static final float RING_DISTANCE = 500f;
+
+    @Param({"10", "50"})
+    public int boats;
+
+    private HeadlessApplication application;
+    private TaskPool taskPool;
+    private PirateMap map;
+    private World world;
+
+    @Setup(Level.Trial)
+    public void createApplication() {
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        //no render loop - only Gdx.app and Gdx.files are needed
+        config.renderInterval = -1;
+        application = new HeadlessApplication(new ApplicationAdapter() {}, config);
+        Gdx.app.setLogLevel(Application.LOG_ERROR);
+        taskPool = new TaskPool("Benchmark");
+        map = Engagement.openWater(taskPool);
+    }
+
+    @Setup(Level.Invocation)
+    public void createWorld() {
+        world = new World(map, taskPool, SEED);
+        world.join();
+        Player player = world.getEntityManager().getOrCreatePlayer();
+        NPCBuilder npcBuilder = new NPCBuilder(world);
+        for (int i = 0; i < boats; i++) {
+            float bearing = MathUtils.PI2 * i / boats;
+            Vector2 pos = player.getCentre().add(MathUtils.sin(bearing) * RING_DISTANCE,
+                    -MathUtils.cos(bearing) * RING_DISTANCE);
+            world.getEntityManager().addNPC(npcBuilder.generateRandomEnemyBoat(pos, Optional.empty(),
+                    1 + i % 10, false));
+        }
+    }
+
+    @Benchmark
+    public World step() {
+        for (int i = 0; i < STEPS; i++) {
+            world.getWorldSimulation().step(FixedTimestep.DEFAULT_STEP);
+        }
+        return world;
+    }
+
+    @TearDown(Level.Trial)
+    public void dispose() {
+        taskPool.dispose();
+        application.exit();
+    }
+}
@@ -0,0 +1,115 @@
+package uk.ac.york.sepr4.balance;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/***
+ * Win rate and time-to-kill table for a set of scenarios (e.g. one per difficulty), built from engagement results.
+ * Not thread safe - collect results first, then add them.
+ */
+public class BalanceReport {
+
+    private String title;
+    //scenario name to its row, in the order first added
+    private Map<String, Row> rows = new LinkedHashMap<>();
+
+    public BalanceReport(String title) {
+        this.title = title;
+    }
+
+    public void add(String scenario, Engagement.Result result) {
+        rows.computeIfAbsent(scenario, Row::new).add(result);
+    }
+
+    public Row getRow(String scenario) {
+        return rows.get(scenario);
+    }
+
+    /***
+     * Format as a fixed width table, one line per scenario.
+     * Times to kill are over won engagements, times to death over lost ones ("-" if none).
+     * @return table lines
+     */
+    public List<String> format() {
+        List<String> lines = new ArrayList<>();
+        lines.add(title);
+        lines.add(String.format("%-36s %6s %7s %7s %8s %9s %9s %9s",
+                "scenario", "runs", "win %", "loss %", "timeout", "TTK mean", "TTK p50", "TTD mean"));
+        for (Row row : rows.values()) {
+            lines.add(String.format("%-36s %6d %7.1f %7.1f %8.1f %9s %9s %9s",
+                    row.getScenario(), row.getRuns(),
+                    row.getRate(Engagement.Outcome.WON) * 100,
+                    row.getRate(Engagement.Outcome.LOST) * 100,
+                    row.getRate(Engagement.Outcome.TIMED_OUT) * 100,
+                    formatTime(row.getMeanTimeToKill()),
+                    formatTime(row.getMedianTimeToKill()),
+                    formatTime(row.getMeanTimeToDeath())));
+        }
+        return lines;
+    }
+
+    private static String formatTime(float seconds) {
+        return Float.isNaN(seconds) ? "-" : String.format("%.1fs", seconds);
+    }
+
+    public static class Row {
+
+        @Getter
+        private String scenario;
+        @Getter
+        private int runs;
+        private Map<Engagement.Outcome, Integer> outcomes = new LinkedHashMap<>();
+        private List<Float> timesToKill = new ArrayList<>();
+        private float totalTimeToDeath;
+
+        private Row(String scenario) {
+            this.scenario = scenario;
+        }
+
+        private void add(Engagement.Result result) {
+            runs++;
+            outcomes.merge(result.getOutcome(), 1, Integer::sum);
+            if (result.getOutcome() == Engagement.Outcome.WON) {
+                timesToKill.add(result.getTime());
+            } else if (result.getOutcome() == Engagement.Outcome.LOST) {
+                totalTimeToDeath += result.getTime();
+            }
+        }
+
+        //fraction of runs (0 to 1) with the outcome
+        public float getRate(Engagement.Outcome outcome) {
+            return runs == 0 ? 0 : outcomes.getOrDefault(outcome, 0) / (float) runs;
+        }
+
+        //NaN if no runs were won
+        public float getMeanTimeToKill() {
+            float total = 0;
+            for (float time : timesToKill) {
+                total += time;
+            }
+            return timesToKill.isEmpty() ? Float.NaN : total / timesToKill.size();
+        }
+
+        //NaN if no runs were won
+        public float getMedianTimeToKill() {
+            if (timesToKill.isEmpty()) {
+                return Float.NaN;
+            }
+            List<Float> sorted = new ArrayList<>(timesToKill);
+            Collections.sort(sorted);
+            int middle = sorted.size() / 2;
+            return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+        }
+
+        //NaN if no runs were lost
+        public float getMeanTimeToDeath() {
+            int lost = outcomes.getOrDefault(Engagement.Outcome.LOST, 0);
+            return lost == 0 ? Float.NaN : totalTimeToDeath / lost;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package uk.ac.york.sepr4.balance;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import lombok.Getter;
+import uk.ac.york.sepr4.io.CookedMap;
+import uk.ac.york.sepr4.object.PirateMap;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.building.College;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.npc.NPCBuilder;
+import uk.ac.york.sepr4.object.entity.npc.NPCEntity;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+import uk.ac.york.sepr4.utils.RandomStreams;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/***
+ * One headless fight between a scripted player and one or more NPCs, fought one after another
+ * (e.g. a college's boats, then its boss). The player keeps its health between opponents.
+ *
+ * Each engagement has its own World on open water, so engagements can run on any number of threads.
+ * The world is seeded - the same seed replays the same placement, NPC stats and AI, so the same fight.
+ */
+public class Engagement {
+
+    //opponents appear this far from the player, in a random direction
+    private static final float SPAWN_DISTANCE = 700f;
+
+    public enum Outcome {
+        //all opponents defeated
+        WON,
+        //player killed
+        LOST,
+        //time limit reached (or the opponent sailed out of range and despawned)
+        TIMED_OUT
+    }
+
+    private PirateMap map;
+    private TaskPool taskPool;
+    private long seed;
+    private float timeLimit;
+    private List<Opponent> opponents = new ArrayList<>();
+
+    /***
+     * @param map open water map shared by engagements (see openWater)
+     * @param taskPool pool for world creation
+     * @param seed seed for the engagement's world
+     * @param timeLimit time allowed for each opponent (s)
+     */
+    public Engagement(PirateMap map, TaskPool taskPool, long seed, float timeLimit) {
+        this.map = map;
+        this.taskPool = taskPool;
+        this.seed = seed;
+        this.timeLimit = timeLimit;
+    }
+
+    /***
+     * Create a map with no islands, buildings or spawn zones - NPCs only appear when an engagement adds them.
+     * The map is joined, so it may be shared by engagements on different threads.
+     * @param taskPool pool to build the (empty) collision grid on
+     * @return joined map
+     */
+    public static PirateMap openWater(TaskPool taskPool) {
+        PirateMap map = new PirateMap(new CookedMap(), taskPool);
+        map.join();
+        return map;
+    }
+
+    /***
+     * Add an enemy boat to fight (as NPCBuilder.generateRandomEnemyBoat).
+     * @param difficulty boat difficulty
+     * @param college college the boat belongs to, if any
+     * @param boss whether the boat is the college boss
+     * @return this engagement
+     */
+    public Engagement boat(int difficulty, Optional<College> college, boolean boss) {
+        opponents.add((world, pos) -> new NPCBuilder(world).generateRandomEnemyBoat(pos, college, difficulty, boss));
+        return this;
+    }
+
+    /***
+     * Add a monster to fight (as NPCBuilder.generateRandomMonster).
+     * @param difficulty monster difficulty
+     * @return this engagement
+     */
+    public Engagement monster(int difficulty) {
+        opponents.add((world, pos) -> new NPCBuilder(world).generateRandomMonster(pos, difficulty));
+        return this;
+    }
+
+    /***
+     * Fight each opponent in turn until all are defeated, the player dies or time runs out.
+     * @return result of the engagement
+     */
+    public Result run() {
+        World world = new World(map, taskPool, seed);
+        world.join();
+        ScriptedPlayer policy = new ScriptedPlayer();
+        Player player = world.getEntityManager().getOrCreatePlayer();
+
+        float step = FixedTimestep.DEFAULT_STEP;
+        float time = 0;
+        int defeated = 0;
+        for (Opponent opponent : opponents) {
+            float bearing = world.getRandom().nextFloat(RandomStreams.Stream.SPAWN) * MathUtils.PI2;
+            Vector2 pos = player.getCentre().add(MathUtils.sin(bearing) * SPAWN_DISTANCE,
+                    -MathUtils.cos(bearing) * SPAWN_DISTANCE);
+            NPCEntity npc = opponent.create(world, pos);
+            world.getEntityManager().addNPC(npc);
+
+            float limit = time + timeLimit;
+            while (!isDefeated(npc)) {
+                if (isDefeated(player)) {
+                    return new Result(Outcome.LOST, time, defeated);
+                }
+                if (time >= limit || npc.isDead()) {
+                    return new Result(Outcome.TIMED_OUT, time, defeated);
+                }
+                policy.act(player, npc);
+                world.getWorldSimulation().step(step);
+                time += step;
+            }
+            defeated++;
+        }
+        return new Result(Outcome.WON, time, defeated);
+    }
+
+    //dying entities are playing their death animation, despawned entities are dead with health left
+    private static boolean isDefeated(NPCEntity npc) {
+        return npc.isDying() || npc.getHealth() <= 0;
+    }
+
+    private static boolean isDefeated(Player player) {
+        return player.isDying() || player.isDead() || player.getHealth() <= 0;
+    }
+
+    private interface Opponent {
+        NPCEntity create(World world, Vector2 pos);
+    }
+
+    @Getter
+    public static class Result {
+
+        private Outcome outcome;
+        //game time from the start to the end of the engagement (s)
+        private float time;
+        private int defeated;
+
+        public Result(Outcome outcome, float time, int defeated) {
+            this.outcome = outcome;
+            this.time = time;
+            this.defeated = defeated;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package uk.ac.york.sepr4.balance;
+
+import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.utils.AIUtil;
+
+/***
+ * Fixed policy standing in for a human player in balance runs.
+ * Closes to firing range, then circles the target and fires with lead whenever the cannon is ready.
+ * It is deliberately simple (no crew abilities, no dodging) so results only change when the NPC stats do.
+ */
+public class ScriptedPlayer {
+
+    //distance kept from the target, and how far either side of it is accepted
+    private static final float IDEAL_RANGE = 300f, RANGE_TOLERANCE = 75f;
+    //targets further away are not fired at (projectiles are removed 1000 from the shooter)
+    private static final float FIRING_RANGE = 600f;
+    //heading error (rad) below which the player sails straight
+    private static final float HEADING_TOLERANCE = 0.05f;
+    //projectiles travel at the shooter's speed plus their base speed
+    private static final float PROJECTILE_SPEED = 125f;
+
+    /***
+     * Set the player's controls for the next step.
+     * @param player player to drive
+     * @param target entity being fought
+     */
+    public void act(Player player, LivingEntity target) {
+        double distance = player.distanceFrom(target);
+        float towards = player.getAngleTowardsEntity(target);
+
+        float heading;
+        if (distance > IDEAL_RANGE + RANGE_TOLERANCE) {
+            heading = towards;
+        } else if (distance < IDEAL_RANGE - RANGE_TOLERANCE) {
+            heading = towards + (float) Math.PI;
+        } else {
+            //circle the target
+            heading = towards + (float) Math.PI / 2;
+        }
+        //positive - turn left
+        float error = AIUtil.signedAngleDifference(player.getAngle(), heading);
+        player.setTurningLeft(error > HEADING_TOLERANCE);
+        player.setTurningRight(error < -HEADING_TOLERANCE);
+        player.setAccelerating(true);
+
+        if (distance < FIRING_RANGE && player.getCurrentCooldown() >= player.getReqCooldown()) {
+            player.fire(AIUtil.perfectAngleToCollide(player, target, PROJECTILE_SPEED));
+        }
+    }
+}
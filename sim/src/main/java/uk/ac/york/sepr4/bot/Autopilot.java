@@ -0,0 +1,231 @@
+package uk.ac.york.sepr4.bot;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.building.Building;
+import uk.ac.york.sepr4.object.building.BuildingManager;
+import uk.ac.york.sepr4.object.building.Department;
+import uk.ac.york.sepr4.object.crew.CrewMember;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.npc.NPCEntity;
+import uk.ac.york.sepr4.utils.AIUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/***
+ * Plays the game unattended (soak and stress runs): sails a loop of colleges and departments,
+ * presses E at each department, fires at the nearest NPC in range and cycles through the crew.
+ *
+ * Decisions become key presses and shots sent to Controls, so in game they go through the same
+ * input handlers as a human (and are recorded like one). Headless runs use PlayerControls.
+ */
+public class Autopilot {
+
+    //waypoints not reached in this time (s) are skipped (e.g. behind an island)
+    private static final float WAYPOINT_TIME = 90f;
+    //NPCs closer than this are fired at (projectiles are removed 1000 from the shooter)
+    private static final float FIRING_RANGE = 600f;
+    //projectiles travel at the shooter's speed plus their base speed
+    private static final float PROJECTILE_SPEED = 125f;
+    //heading error (rad) below which the player sails straight
+    private static final float HEADING_TOLERANCE = 0.1f;
+    //moving less than STUCK_DISTANCE in STUCK_CHECK seconds (e.g. bouncing off an island) - sail in a turn for a while
+    private static final float STUCK_CHECK = 3f, STUCK_DISTANCE = 60f, UNSTICK_TIME = 2f;
+    //time between crew changes (s)
+    private static final float CREW_INTERVAL = 10f;
+
+    /***
+     * Where the autopilot's input goes.
+     */
+    public interface Controls {
+        //press a key (keycode as Input.Keys)
+        void press(int keycode);
+
+        void release(int keycode);
+
+        //fire at an angle (as a click at that angle from the player)
+        void fire(float angle);
+    }
+
+    private World world;
+    private Controls controls;
+    //colleges and departments, visited in turn
+    private List<Building> route = new ArrayList<>();
+    private int waypoint = 0;
+    private float waypointTime = 0;
+    //keys currently held down by the autopilot
+    private IntArray held = new IntArray();
+
+    private Vector2 lastPosition;
+    private float sinceProgress = 0, unstickTime = 0, sinceCrewChange = 0;
+    private int crewIndex = 0;
+
+    /***
+     * @param world joined world to play in
+     * @param controls input handlers to send key presses and shots to
+     */
+    public Autopilot(World world, Controls controls) {
+        this.world = world;
+        this.controls = controls;
+        //alternate colleges and departments so the loop crosses the map
+        BuildingManager buildingManager = world.getBuildingManager();
+        int stops = Math.max(buildingManager.getColleges().size, buildingManager.getDepartments().size);
+        for (int i = 0; i < stops; i++) {
+            if (i < buildingManager.getColleges().size) {
+                route.add(buildingManager.getColleges().get(i));
+            }
+            if (i < buildingManager.getDepartments().size) {
+                route.add(buildingManager.getDepartments().get(i));
+            }
+        }
+    }
+
+    /***
+     * Decide and send input for the next step.
+     * @param delta time since last update (s)
+     */
+    public void update(float delta) {
+        Player player = world.getEntityManager().getOrCreatePlayer();
+        if (player.isDying() || player.isDead() || route.isEmpty()) {
+            releaseAll();
+            return;
+        }
+        steer(player, delta);
+        fireAtNearest(player);
+        changeCrew(player, delta);
+    }
+
+    /***
+     * Release every key the autopilot is holding (e.g. when it is switched off).
+     */
+    public void releaseAll() {
+        while (held.size > 0) {
+            controls.release(held.pop());
+        }
+    }
+
+    private void steer(Player player, float delta) {
+        Vector2 position = player.getCentre();
+        Building building = route.get(waypoint);
+        waypointTime += delta;
+        //reached once in the building's zone - the same test the E key uses (EntityManager.getPlayerLocation)
+        boolean arrived = building.getBuildingZone().contains(player.getX(), player.getY());
+        if (arrived || waypointTime >= WAYPOINT_TIME) {
+            //shop - entered through the E key, as a player would (unless an overlapping building's zone comes first)
+            if (arrived && building instanceof Department
+                    && world.getEntityManager().getPlayerLocation().orElse(null) == building) {
+                tap(Input.Keys.E);
+            }
+            waypoint = (waypoint + 1) % route.size();
+            waypointTime = 0;
+            building = route.get(waypoint);
+        }
+
+        sinceProgress += delta;
+        if (lastPosition == null) {
+            lastPosition = position;
+        } else if (sinceProgress >= STUCK_CHECK) {
+            if (position.dst(lastPosition) < STUCK_DISTANCE) {
+                unstickTime = UNSTICK_TIME;
+            }
+            lastPosition = position;
+            sinceProgress = 0;
+        }
+
+        if (unstickTime > 0) {
+            unstickTime -= delta;
+            //turning speed depends on speed, so keep sailing
+            hold(Input.Keys.W, true);
+            hold(Input.Keys.S, false);
+            hold(Input.Keys.A, true);
+            hold(Input.Keys.D, false);
+            return;
+        }
+        Vector2 goal = building.getMapLocation();
+        //movement is x += sin(angle), y -= cos(angle)
+        float heading = (float) Math.atan2(goal.x - position.x, position.y - goal.y);
+        float error = AIUtil.signedAngleDifference(player.getAngle(), heading);
+        hold(Input.Keys.W, true);
+        hold(Input.Keys.S, false);
+        hold(Input.Keys.A, error > HEADING_TOLERANCE);
+        hold(Input.Keys.D, error < -HEADING_TOLERANCE);
+    }
+
+    private void fireAtNearest(Player player) {
+        if (player.getCurrentCooldown() < player.getReqCooldown()) {
+            return;
+        }
+        NPCEntity nearest = null;
+        double nearestDistance = FIRING_RANGE;
+        for (NPCEntity npc : world.getEntityManager().getNpcList()) {
+            double distance = player.distanceFrom(npc);
+            if (!npc.isDying() && !npc.isDead() && distance < nearestDistance) {
+                nearest = npc;
+                nearestDistance = distance;
+            }
+        }
+        if (nearest != null) {
+            controls.fire(AIUtil.perfectAngleToCollide(player, nearest, PROJECTILE_SPEED));
+        }
+    }
+
+    private void changeCrew(Player player, float delta) {
+        sinceCrewChange += delta;
+        if (sinceCrewChange < CREW_INTERVAL) {
+            return;
+        }
+        sinceCrewChange = 0;
+        //normal cannon (1), then each unlocked crew member
+        List<CrewMember> crew = player.getCrewMembers();
+        crewIndex = (crewIndex + 1) % (crew.size() + 1);
+        tap(crewIndex == 0 ? Input.Keys.NUM_1 : Input.Keys.valueOf(crew.get(crewIndex - 1).getKey().toUpperCase()));
+    }
+
+    private void hold(int keycode, boolean down) {
+        boolean isHeld = held.contains(keycode);
+        if (down && !isHeld) {
+            held.add(keycode);
+            controls.press(keycode);
+        } else if (!down && isHeld) {
+            held.removeValue(keycode);
+            controls.release(keycode);
+        }
+    }
+
+    private void tap(int keycode) {
+        controls.press(keycode);
+        controls.release(keycode);
+    }
+
+    /***
+     * Controls straight into the player, for headless runs. There are no screens, so E does nothing.
+     */
+    public static class PlayerControls implements Controls {
+
+        private Player player;
+
+        public PlayerControls(Player player) {
+            this.player = player;
+        }
+
+        @Override
+        public void press(int keycode) {
+            if (!player.keyDown(keycode)) {
+                player.selectCrewByKey(keycode);
+            }
+        }
+
+        @Override
+        public void release(int keycode) {
+            player.keyUp(keycode);
+        }
+
+        @Override
+        public void fire(float angle) {
+            player.fire(angle);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package uk.ac.york.sepr4.io;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/***
+ * Map data pre-processed from the TMX file (see MapCooker).
+ *
+ * Polygons are stored as flat vertex arrays already in map coordinates (no further transform needed).
+ * Named map objects are kept in Tiled coordinates, as read from the object layer.
+ */
+@Data
+public class CookedMap {
+
+    private boolean objectsEnabled;
+    private Vector2 spawnPoint = new Vector2();
+
+    private List<float[]> collisionPolygons = new ArrayList<>();
+    private List<float[]> spawnZonePolygons = new ArrayList<>();
+    //difficulty of each spawn zone (same order as spawnZonePolygons)
+    private List<Integer> spawnZoneDifficulties = new ArrayList<>();
+    private Map<String, Rectangle> mapObjects = new LinkedHashMap<>();
+
+}
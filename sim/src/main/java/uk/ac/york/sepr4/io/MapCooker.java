@@ -0,0 +1,283 @@
+package uk.ac.york.sepr4.io;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import com.badlogic.gdx.utils.XmlReader;
+import uk.ac.york.sepr4.object.PirateMap;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/***
+ * Reads and writes the cooked (binary) sidecar of a TMX map, e.g. "map/PirateMap.cooked".
+ *
+ * The sidecar holds everything PirateMap would otherwise derive by scanning every tile and parsing
+ * object names: collision polygons, spawn zones, the spawn point and named map objects.
+ * It records a checksum of the TMX (and tilesets) it was cooked from - if the map has been edited
+ * since, the sidecar is ignored and the map is processed from the TMX as before. The tilesets are
+ * listed in the sidecar, as internal directories can not be listed from a jar.
+ * Sidecars are generated by the desktop cookMap Gradle task.
+ */
+public class MapCooker {
+
+    private static final int MAGIC = 0x504D4150; //"PMAP"
+    private static final int VERSION = 2;
+    private static final String SIDECAR_EXTENSION = ".cooked";
+
+    /***
+     * Get the cooked sidecar for a map file (same directory, .cooked extension).
+     * @param mapFile TMX file
+     * @return sidecar file handle (may not exist)
+     */
+    public static FileHandle sidecarFor(FileHandle mapFile) {
+        return mapFile.sibling(mapFile.nameWithoutExtension() + SIDECAR_EXTENSION);
+    }
+
+    /***
+     * External tilesets a map references (tile collision objects live in the tilesets).
+     * @param mapFile TMX file
+     * @return tileset paths, relative to the map's directory, in map order
+     */
+    public static List<String> tilesetSources(FileHandle mapFile) {
+        List<String> sources = new ArrayList<>();
+        XmlReader.Element map = new XmlReader().parse(mapFile.readString("UTF-8"));
+        for (XmlReader.Element tileset : map.getChildrenByName("tileset")) {
+            String source = tileset.getAttribute("source", null);
+            if (source != null) {
+                sources.add(source);
+            }
+        }
+        return sources;
+    }
+
+    /***
+     * Checksum of a map and its tilesets.
+     * @param mapFile TMX file
+     * @param tilesets tileset paths, relative to the map's directory (see tilesetSources)
+     * @return CRC32 of the map and tileset files
+     */
+    public static long checksum(FileHandle mapFile, List<String> tilesets) {
+        CRC32 crc = new CRC32();
+        crc.update(mapFile.readBytes());
+        for (String tileset : tilesets) {
+            crc.update(resolve(mapFile.parent(), tileset).readBytes());
+        }
+        return crc.getValue();
+    }
+
+    //resolve a relative path (as written by Tiled) one step at a time, so ".." works for internal files
+    private static FileHandle resolve(FileHandle directory, String path) {
+        FileHandle file = directory;
+        for (String part : path.split("/")) {
+            if (part.equals("..")) {
+                file = file.parent();
+            } else if (!part.isEmpty() && !part.equals(".")) {
+                file = file.child(part);
+            }
+        }
+        return file;
+    }
+
+    /***
+     * Extract the cookable data from a map processed from TMX.
+     * @param pirateMap map loaded from TMX
+     * @return cooked map data
+     */
+    public static CookedMap cook(PirateMap pirateMap) {
+        CookedMap cookedMap = new CookedMap();
+        cookedMap.setObjectsEnabled(pirateMap.isObjectsEnabled());
+        cookedMap.setSpawnPoint(pirateMap.getSpawnPoint().cpy());
+        for (Polygon polygon : pirateMap.getCollisionObjects()) {
+            cookedMap.getCollisionPolygons().add(polygon.getTransformedVertices().clone());
+        }
+        pirateMap.getSpawnZones().forEach((polygon, difficulty) -> {
+            cookedMap.getSpawnZonePolygons().add(polygon.getTransformedVertices().clone());
+            cookedMap.getSpawnZoneDifficulties().add(difficulty);
+        });
+        pirateMap.getMapObjects().forEach((name, rectangle) ->
+                cookedMap.getMapObjects().put(name, new Rectangle(rectangle)));
+        return cookedMap;
+    }
+
+    /***
+     * Write the cooked sidecar for a map.
+     * @param cookedMap data to write
+     * @param mapFile TMX file the data was cooked from (must be next to a writable sidecar location)
+     * @return sidecar written
+     */
+    public static FileHandle write(CookedMap cookedMap, FileHandle mapFile) {
+        FileHandle sidecar = sidecarFor(mapFile);
+        DataOutputStream out = new DataOutputStream(sidecar.write(false, 8192));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            List<String> tilesets = tilesetSources(mapFile);
+            out.writeShort(tilesets.size());
+            for (String tileset : tilesets) {
+                writeString(out, tileset);
+            }
+            out.writeLong(checksum(mapFile, tilesets));
+            out.writeBoolean(cookedMap.isObjectsEnabled());
+            out.writeFloat(cookedMap.getSpawnPoint().x);
+            out.writeFloat(cookedMap.getSpawnPoint().y);
+
+            writePolygons(out, cookedMap.getCollisionPolygons());
+            writePolygons(out, cookedMap.getSpawnZonePolygons());
+            for (Integer difficulty : cookedMap.getSpawnZoneDifficulties()) {
+                out.writeInt(difficulty);
+            }
+
+            out.writeInt(cookedMap.getMapObjects().size());
+            for (Map.Entry<String, Rectangle> entry : cookedMap.getMapObjects().entrySet()) {
+                writeString(out, entry.getKey());
+                Rectangle rectangle = entry.getValue();
+                out.writeFloat(rectangle.x);
+                out.writeFloat(rectangle.y);
+                out.writeFloat(rectangle.width);
+                out.writeFloat(rectangle.height);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Could not write cooked map: " + sidecar.path(), e);
+        } finally {
+            StreamUtils.closeQuietly(out);
+        }
+        return sidecar;
+    }
+
+    /***
+     * Read the cooked sidecar for a map, if present and up to date.
+     * @param mapFile TMX file
+     * @return cooked data, or empty if the map should be processed from TMX
+     */
+    public static Optional<CookedMap> read(FileHandle mapFile) {
+        FileHandle sidecar = sidecarFor(mapFile);
+        if (!sidecar.exists()) {
+            Gdx.app.log("MapCooker", "No cooked map for " + mapFile.path() + ", using TMX");
+            return Optional.empty();
+        }
+        try {
+            ByteBuffer buffer = readBuffer(sidecar);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                Gdx.app.log("MapCooker", "Cooked map " + sidecar.path() + " has an old format, using TMX");
+                return Optional.empty();
+            }
+            List<String> tilesets = new ArrayList<>();
+            int tilesetCount = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < tilesetCount; i++) {
+                tilesets.add(readString(buffer));
+            }
+            if (buffer.getLong() != checksum(mapFile, tilesets)) {
+                Gdx.app.log("MapCooker", "Cooked map " + sidecar.path() + " is stale, using TMX");
+                return Optional.empty();
+            }
+
+            CookedMap cookedMap = new CookedMap();
+            cookedMap.setObjectsEnabled(buffer.get() != 0);
+            cookedMap.getSpawnPoint().set(buffer.getFloat(), buffer.getFloat());
+
+            cookedMap.getCollisionPolygons().addAll(readPolygons(buffer));
+            List<float[]> zones = readPolygons(buffer);
+            cookedMap.getSpawnZonePolygons().addAll(zones);
+            for (int i = 0; i < zones.size(); i++) {
+                cookedMap.getSpawnZoneDifficulties().add(buffer.getInt());
+            }
+
+            int objects = buffer.getInt();
+            for (int i = 0; i < objects; i++) {
+                cookedMap.getMapObjects().put(readString(buffer),
+                        new Rectangle(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat()));
+            }
+            return Optional.of(cookedMap);
+        } catch (GdxRuntimeException | BufferUnderflowException e) {
+            Gdx.app.error("MapCooker", "Could not read cooked map " + sidecar.path() + ", using TMX", e);
+            return Optional.empty();
+        }
+    }
+
+    /***
+     * Read the whole sidecar in one go - the pack's buffer if packed, memory mapped where it is a real file,
+     * otherwise one read.
+     */
+    private static ByteBuffer readBuffer(FileHandle sidecar) {
+        if (sidecar instanceof MappedFile) {
+            return ((MappedFile) sidecar).mapBuffer();
+        }
+        if (sidecar.type() != Files.FileType.Classpath && sidecar.file().exists()) {
+            RandomAccessFile file = null;
+            try {
+                file = new RandomAccessFile(sidecar.file(), "r");
+                //the mapping stays valid once the file is closed
+                return file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+            } catch (IOException e) {
+                //fall back to reading into memory
+            } finally {
+                StreamUtils.closeQuietly(file);
+            }
+        }
+        return ByteBuffer.wrap(sidecar.readBytes());
+    }
+
+    //strings are written as a byte count (short) and UTF-8 bytes
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /***
+     * Polygons are written as a count, the vertex count of each, then all vertices as one flat array.
+     */
+    private static void writePolygons(DataOutputStream out, List<float[]> polygons) throws IOException {
+        out.writeInt(polygons.size());
+        for (float[] vertices : polygons) {
+            out.writeInt(vertices.length);
+        }
+        for (float[] vertices : polygons) {
+            for (float vertex : vertices) {
+                out.writeFloat(vertex);
+            }
+        }
+    }
+
+    private static List<float[]> readPolygons(ByteBuffer buffer) {
+        int[] lengths = new int[buffer.getInt()];
+        int total = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = buffer.getInt();
+            total += lengths[i];
+        }
+        float[] vertices = new float[total];
+        buffer.asFloatBuffer().get(vertices);
+        buffer.position(buffer.position() + total * Float.BYTES);
+
+        List<float[]> polygons = new ArrayList<>(lengths.length);
+        int offset = 0;
+        for (int length : lengths) {
+            polygons.add(Arrays.copyOfRange(vertices, offset, offset + length));
+            offset += length;
+        }
+        return polygons;
+    }
+}
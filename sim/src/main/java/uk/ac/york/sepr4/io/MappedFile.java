@@ -0,0 +1,15 @@
+package uk.ac.york.sepr4.io;
+
+import java.nio.ByteBuffer;
+
+/***
+ * File handle whose whole content is already in memory (e.g. a file inside a memory-mapped asset pack),
+ * so readers can use it directly instead of opening or copying the file.
+ */
+public interface MappedFile {
+
+    /***
+     * @return read only buffer over the file's content (position 0, limit at the end of the file)
+     */
+    ByteBuffer mapBuffer();
+}
@@ -0,0 +1,312 @@
+package uk.ac.york.sepr4.object;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.MapObjects;
+import com.badlogic.gdx.maps.objects.PolygonMapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import lombok.Getter;
+import uk.ac.york.sepr4.io.CookedMap;
+import uk.ac.york.sepr4.io.MapCooker;
+import uk.ac.york.sepr4.utils.CollisionGrid;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+public class PirateMap {
+
+    private final String objectLayerName = "objects";
+    private final String spawnPointObject = "spawn";
+
+    private MapLayer objectLayer;
+
+    @Getter
+    private Vector2 spawnPoint;
+
+    @Getter
+    private boolean objectsEnabled;
+
+    @Getter
+    private List<Polygon> collisionObjects = new ArrayList<>();
+    //in map order (polygons hash by identity) so seeded spawning repeats
+    @Getter
+    private HashMap<Polygon, Integer> spawnZones = new LinkedHashMap<>();
+    //named (non-collision) map objects, in Tiled coordinates
+    @Getter
+    private Map<String, Rectangle> mapObjects = new HashMap<>();
+
+    //size of collision grid cells (map units)
+    private static final float GRID_CELL_SIZE = 512f;
+    private CollisionGrid collisionGrid;
+
+    //preprocessing tasks, until joined
+    private List<CompletableFuture<List<Polygon>>> layerScans = new ArrayList<>();
+    private Future<HashMap<Polygon, Integer>> spawnZoneTask;
+    private Future<CollisionGrid> gridTask;
+
+    /***
+     * Load a map, using its cooked sidecar if up to date (otherwise processing the TMX objects).
+     * Preprocessing runs on the task pool - call join before using collision objects or spawn zones.
+     * @param mapFile TMX file
+     * @param tiledMap map loaded from mapFile
+     * @param taskPool pool to run preprocessing on
+     * @return loaded map
+     */
+    public static PirateMap load(FileHandle mapFile, TiledMap tiledMap, TaskPool taskPool) {
+        Optional<CookedMap> cookedMap = MapCooker.read(mapFile);
+        if (cookedMap.isPresent()) {
+            return new PirateMap(cookedMap.get(), taskPool);
+        }
+        return new PirateMap(tiledMap, taskPool);
+    }
+
+    /***
+     * Create map from the TMX objects.
+     * Each tile layer is scanned for collision objects as a separate task.
+     * libGDX Arrays share their iterators, so the object layer is only read here (on the calling thread)
+     * and tasks get their own copy of its objects.
+     * @param tiledMap loaded map
+     * @param taskPool pool to run preprocessing on
+     */
+    public PirateMap(TiledMap tiledMap, TaskPool taskPool) {
+        if (checkObjectLayer(tiledMap)) {
+            setMapObjects();
+            List<MapObject> objects = new ArrayList<>();
+            MapObjects layerObjects = objectLayer.getObjects();
+            for (int i = 0; i < layerObjects.getCount(); i++) {
+                objects.add(layerObjects.get(i));
+            }
+            for (MapLayer mapLayer : tiledMap.getLayers()) {
+                if (mapLayer instanceof TiledMapTileLayer) {
+                    TiledMapTileLayer tileLayer = (TiledMapTileLayer) mapLayer;
+                    layerScans.add(taskPool.submit("Scan layer " + mapLayer.getName(), () -> scanLayer(tileLayer)));
+                }
+            }
+            spawnZoneTask = taskPool.submit("Spawn zones", () -> createSpawnZones(objects));
+            this.objectsEnabled = true;
+        } else {
+            Gdx.app.error("Pirate Map", "Map does NOT contain object layer!");
+            this.objectsEnabled = false;
+        }
+        submitCollisionGrid(taskPool);
+    }
+
+    /***
+     * Create map from pre-processed (cooked) data - no tile scanning or object parsing needed.
+     * @param cookedMap data cooked from the same map
+     * @param taskPool pool to build the collision grid on
+     */
+    public PirateMap(CookedMap cookedMap, TaskPool taskPool) {
+        this.objectsEnabled = cookedMap.isObjectsEnabled();
+        this.spawnPoint = cookedMap.getSpawnPoint();
+
+        //cooked vertices are already in map coordinates
+        List<Polygon> polygons = new ArrayList<>();
+        for (float[] vertices : cookedMap.getCollisionPolygons()) {
+            polygons.add(new Polygon(vertices));
+        }
+        layerScans.add(CompletableFuture.completedFuture(polygons));
+        HashMap<Polygon, Integer> zones = new LinkedHashMap<>();
+        for (int i = 0; i < cookedMap.getSpawnZonePolygons().size(); i++) {
+            zones.put(new Polygon(cookedMap.getSpawnZonePolygons().get(i)),
+                    cookedMap.getSpawnZoneDifficulties().get(i));
+        }
+        spawnZoneTask = CompletableFuture.completedFuture(zones);
+        mapObjects.putAll(cookedMap.getMapObjects());
+        Gdx.app.log("PirateMap", "Loaded " + polygons.size() + " collision objects and "
+                + zones.size() + " spawn zones from cooked map!");
+        submitCollisionGrid(taskPool);
+    }
+
+    /***
+     * Wait for preprocessing to finish and store its results. Must be called (on the GL thread)
+     * before the map is used for collisions or spawning. Does nothing if already joined.
+     */
+    public void join() {
+        if (gridTask == null) {
+            return;
+        }
+        for (Future<List<Polygon>> scan : layerScans) {
+            collisionObjects.addAll(TaskPool.join(scan));
+        }
+        if (spawnZoneTask != null) {
+            spawnZones.putAll(TaskPool.join(spawnZoneTask));
+        }
+        collisionGrid = TaskPool.join(gridTask);
+        layerScans.clear();
+        spawnZoneTask = null;
+        gridTask = null;
+        Gdx.app.log("PirateMap", "Loaded " + this.collisionObjects.size() + " collision objects!");
+    }
+
+    /***
+     * Transform collision polygons and build the spatial index once the layer scans are done.
+     * The grid task is only submitted when every scan has finished, so no worker waits on another.
+     */
+    private void submitCollisionGrid(TaskPool taskPool) {
+        List<CompletableFuture<List<Polygon>>> scans = new ArrayList<>(layerScans);
+        gridTask = CompletableFuture.allOf(scans.toArray(new CompletableFuture<?>[0]))
+                .thenCompose(done -> taskPool.submit("Transform polygons and build collision grid", () -> {
+                    List<Polygon> polygons = new ArrayList<>();
+                    for (CompletableFuture<List<Polygon>> scan : scans) {
+                        polygons.addAll(scan.join());
+                    }
+                    return new CollisionGrid(polygons, GRID_CELL_SIZE);
+                }));
+    }
+
+    public Vector2 getSpawnPoint() {
+        if (isObjectsEnabled()) {
+            return spawnPoint;
+        } else {
+            return new Vector2(50, 50);
+        }
+    }
+
+    public boolean isColliding(Rectangle rectangle) {
+        //only polygons in grid cells near the rectangle are checked
+        return collisionGrid.isColliding(rectangle);
+    }
+
+    /***
+     * Generate spawn zones from map objects. Parse difficulty from object name.
+     * These will areas will be used to spawn NPCs (krakens, boats).
+     * @param layerObjects objects of the object layer (copied - see constructor)
+     * @return spawn zones and their difficulty
+     */
+    private HashMap<Polygon, Integer> createSpawnZones(List<MapObject> layerObjects) {
+        HashMap<Polygon, Integer> spawnZones = new LinkedHashMap<>();
+        for(MapObject objects : layerObjects){
+            if(objects.getName() != null) {
+                if (objects.getName().contains("npc_spawn")) {
+                    //is an npc_spawn object
+                    if (objects instanceof PolygonMapObject) {
+                        String name = objects.getName();
+                        name = name.replace("npc_spawn", "");
+                        Integer difficulty = Integer.valueOf(name);
+                        if (difficulty != null) {
+                            //parse difficulty from name
+                            PolygonMapObject polygonMapObject = (PolygonMapObject) objects;
+                            Polygon polygon = polygonMapObject.getPolygon();
+                            spawnZones.put(convertTiledPolygonToMap(polygon, 0, 0), difficulty);
+                        }
+                    }
+                }
+            }
+        }
+        Gdx.app.log("PirateMap", "Loaded "+spawnZones.size()+" spawn zones!");
+        return spawnZones;
+    }
+
+    /***
+     * Generate objects from individual tiles (based on respective tile's object).
+     *
+     * This function provides functionality that should really be in LibGDX's TiledMap package.
+     * @param tileLayer layer to scan
+     * @return collision polygons of the layer's tiles
+     */
+    private List<Polygon> scanLayer(TiledMapTileLayer tileLayer) {
+        List<Polygon> polygons = new ArrayList<>();
+        //scan across
+        for (int x = 0; x <= tileLayer.getWidth(); x++) {
+            //scan up
+            for (int y = 0; y <= tileLayer.getHeight(); y++) {
+                TiledMapTileLayer.Cell cell = tileLayer.getCell(x, y);
+                if (cell != null) {
+                    TiledMapTile tile = tileLayer.getCell(x, y).getTile();
+                    if (tile.getObjects() != null) {
+                        //tiles are shared between layers scanned at once - index, as Array iterators are shared
+                        MapObjects tileObjects = tile.getObjects();
+                        for (int i = 0; i < tileObjects.getCount(); i++) {
+                            MapObject mapObject = tileObjects.get(i);
+                            if (mapObject instanceof PolygonMapObject) {
+                                PolygonMapObject polygonMapObject = (PolygonMapObject) mapObject;
+                                Polygon oldPoly = polygonMapObject.getPolygon();
+                                polygons.add(convertTiledPolygonToMap(oldPoly, x, y));
+                            }
+                        }
+                    }
+                }
+            }
+
+        }
+        return polygons;
+    }
+
+    /***
+     * Convert TiledPolygon to Polygon with correct relative coordinate.
+     * @param tiledPolyon input polygon
+     * @param x x offset
+     * @param y y offset
+     * @return Polygon with respect to map coordinates
+     */
+    private Polygon convertTiledPolygonToMap(Polygon tiledPolyon, Integer x, Integer y) {
+        Polygon polygon = new Polygon();
+        polygon.setVertices(tiledPolyon.getVertices());
+        polygon.setOrigin(tiledPolyon.getOriginX(), tiledPolyon.getOriginY());
+        polygon.setPosition((x+(tiledPolyon.getX()/64))*32f, (y+(tiledPolyon.getY())/64)*32f);
+        //TODO: LibGDX fault. LoadObject does not correctly get tile rotation.
+        //Rotation value is always 0 (even on rotated tiles).
+        //Simple replace with non-rotated tiles in map editor.
+        //polygon.setRotation(polygonMapObject.getPolygon().getRotation());
+        polygon.setScale(1/2f, 1/2f);
+        return polygon;
+    }
+
+    /***
+     * Store named rectangle objects (e.g. building locations) so they can be looked up by name.
+     */
+    private void setMapObjects() {
+        for (MapObject mapObject : objectLayer.getObjects()) {
+            if (mapObject.getName() != null && mapObject instanceof RectangleMapObject) {
+                //first object with a name wins (as MapObjects.get)
+                mapObjects.putIfAbsent(mapObject.getName(), ((RectangleMapObject) mapObject).getRectangle());
+            }
+        }
+    }
+
+    //check if map contains objectlayer
+    private boolean checkObjectLayer(TiledMap tiledMap) {
+        this.objectLayer = tiledMap.getLayers().get(objectLayerName);
+        if (this.objectLayer != null) {
+            return setSpawnObject();
+        }
+        return false;
+    }
+
+    /***
+     * Gets a map (not collision) object with the specified name.
+     * @param objectName
+     * @return rectangle of the object (Tiled coordinates)
+     */
+    public Optional<Rectangle> getMapObject(String objectName) {
+        return Optional.ofNullable(mapObjects.get(objectName));
+    }
+
+    //set spawn object
+    private boolean setSpawnObject() {
+        MapObject mapObject = objectLayer.getObjects().get(spawnPointObject);
+        if (mapObject != null && mapObject instanceof RectangleMapObject) {
+            RectangleMapObject object = (RectangleMapObject) mapObject;
+            this.spawnPoint = scaleTiledVectorToMap(new Vector2(object.getRectangle().x, object.getRectangle().y));
+            return true;
+        }
+        return false;
+    }
+
+    //scale tiledvector to real vector
+    public Vector2 scaleTiledVectorToMap(Vector2 tiledVector) {
+        return tiledVector.scl(1 / 2f);
+    }
+
+}
@@ -0,0 +1,85 @@
+package uk.ac.york.sepr4.object;
+
+import lombok.Getter;
+import uk.ac.york.sepr4.object.building.BuildingManager;
+import uk.ac.york.sepr4.object.crew.CrewBank;
+import uk.ac.york.sepr4.object.entity.EntityManager;
+import uk.ac.york.sepr4.object.item.RewardManager;
+import uk.ac.york.sepr4.replay.InputLog;
+import uk.ac.york.sepr4.utils.RandomStreams;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.util.Optional;
+
+/***
+ * Gameplay state of one game: map, buildings, crew, rewards, entities and random streams.
+ * Holds nothing graphical - GameInstance wraps it with screens and renderers, headless runs use it directly.
+ * Entities and managers are given their world on construction, so any number of worlds can run side by side.
+ */
+@Getter
+public class World {
+
+    private PirateMap pirateMap;
+    private BuildingManager buildingManager;
+    private CrewBank crewBank;
+    private RewardManager itemManager;
+    private EntityManager entityManager;
+    private WorldSimulation worldSimulation;
+    private RandomStreams random;
+    //player input since the start, if recording
+    private Optional<InputLog> inputLog = Optional.empty();
+
+    /***
+     * Create a world on a loaded map. Building files are parsed on the task pool - call join before use.
+     * @param pirateMap map (may still be preprocessing)
+     * @param taskPool pool to parse building files on
+     * @param seed seed for all randomness in the world (same seed, same inputs - same game)
+     */
+    public World(PirateMap pirateMap, TaskPool taskPool, long seed) {
+        this.pirateMap = pirateMap;
+        this.random = new RandomStreams(seed);
+        this.buildingManager = new BuildingManager(this, taskPool);
+        this.crewBank = new CrewBank();
+        this.itemManager = new RewardManager();
+    }
+
+    /***
+     * Wait for map and building preprocessing, then create entities.
+     */
+    public void join() {
+        pirateMap.join();
+        buildingManager.join();
+        this.entityManager = new EntityManager(this);
+        this.worldSimulation = new WorldSimulation(this);
+    }
+
+    /***
+     * Record player input from now on. Only a recording started before the first step replays the game.
+     * @return log being recorded
+     */
+    public InputLog startRecording() {
+        InputLog log = new InputLog(random.getSeed());
+        inputLog = Optional.of(log);
+        return log;
+    }
+
+    /***
+     * Add an input to the log, stamped with the current step (no effect if not recording).
+     * @param event type of input
+     * @param value input value (see InputLog.Event)
+     */
+    public void recordInput(InputLog.Event event, int value) {
+        inputLog.ifPresent(log -> log.add(worldSimulation.getTicks(), event, value));
+    }
+
+    /***
+     * Stop recording, marking the log's length as the steps run so far.
+     * @return recorded log (empty if not recording)
+     */
+    public Optional<InputLog> stopRecording() {
+        Optional<InputLog> log = inputLog;
+        log.ifPresent(recorded -> recorded.setSteps(worldSimulation.getTicks()));
+        inputLog = Optional.empty();
+        return log;
+    }
+}
@@ -0,0 +1,136 @@
+package uk.ac.york.sepr4.object;
+
+import com.badlogic.gdx.Gdx;
+import lombok.Getter;
+import lombok.Setter;
+import uk.ac.york.sepr4.object.entity.EntityManager;
+import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.projectile.Projectile;
+import uk.ac.york.sepr4.utils.AIUtil;
+import uk.ac.york.sepr4.utils.StepTimings;
+
+import java.util.Optional;
+
+/***
+ * Game logic for one fixed step of the sailing world: entities, AI, spawning and collisions.
+ * Holds no rendering state, so it runs the same behind SailScreen and in headless runs.
+ */
+public class WorldSimulation {
+
+    private World world;
+    //steps completed (input logs are stamped with this)
+    @Getter
+    private long ticks = 0;
+    //per-phase step timings, when profiling
+    @Getter
+    @Setter
+    private Optional<StepTimings> timings = Optional.empty();
+
+    public WorldSimulation(World world) {
+        this.world = world;
+    }
+
+    /***
+     * Update world state for one step.
+     * @param step length of step (s)
+     */
+    public void step(float step) {
+        Player player = world.getEntityManager().getOrCreatePlayer();
+        EntityManager entityManager = world.getEntityManager();
+        timings.ifPresent(StepTimings::beginStep);
+
+        if (!player.isDying()) {
+            //despawns entities, handles animations and projectiles
+            entityManager.handleEntities(step);
+        } else {
+            //when the player is dying - only process animations
+            entityManager.getAnimationManager().handleEffects(step);
+        }
+        timings.ifPresent(t -> t.mark("Entities"));
+        if (world.getPirateMap().isObjectsEnabled()) {
+            entityManager.spawnEnemies(step);
+            world.getBuildingManager().checkBossSpawn();
+        }
+        timings.ifPresent(t -> t.mark("Spawning"));
+
+        checkCollisions();
+        timings.ifPresent(t -> t.mark("Collisions"));
+        //move entities
+        entityManager.updateEntities(step);
+        timings.ifPresent(t -> t.mark("Movement"));
+        timings.ifPresent(StepTimings::endStep);
+        ticks++;
+    }
+
+    /**
+     * Checks whether actors have overlapped. In the instance where projectile and entity overlap, deal damage.
+     */
+    private void checkCollisions() {
+        checkProjectileCollisions();
+        checkLivingEntityCollisions();
+    }
+
+    /***
+     * Nested loop through each entity against others and check if colliding (overlapping).
+     */
+    public void checkLivingEntityCollisions() {
+        EntityManager entityManager = world.getEntityManager();
+        //player/map collision check
+        //TODO: Improve to make player a polygon - cant do without a lot of work
+        for (LivingEntity lE : entityManager.getLivingEntities()) {
+            //Between entity and map
+            if (world.getPirateMap().isColliding(lE.getRectBounds())) {
+                if (lE.getCollidedWithIsland() == 0) {
+                    lE.collide(false, 0f);
+                }
+            }
+            if (lE.getCollidedWithIsland() >= 1) {
+                lE.setCollidedWithIsland(lE.getCollidedWithIsland() - 1);
+            }
+
+            //between living entities themselves
+            for (LivingEntity lE2 : entityManager.getLivingEntities()) {
+                if (!lE.equals(lE2)) {
+                    if(!lE.isDying() && !lE2.isDying()) {
+                        if (lE.getRectBounds().overlaps(lE2.getRectBounds())) {
+                            if (lE.getColliedWithBoat() == 0) {
+                                lE.collide(true, AIUtil.normalizeAngle((float) (lE.getAngleTowardsEntity(lE2) - Math.PI)));
+                            }
+                            //Gdx.app.log("gs", ""+lE.getColliedWithBoat());
+                        }
+                    }
+                }
+                if (lE.getColliedWithBoat() >= 1) {
+                    lE.setColliedWithBoat(lE.getColliedWithBoat() - 1);
+                }
+            }
+        }
+    }
+
+    /***
+     * Loop through all projectiles and entities and check if colliding (overlapping).
+     */
+    private void checkProjectileCollisions() {
+        EntityManager entityManager = world.getEntityManager();
+        for (Projectile projectile : entityManager.getProjectileManager().getProjectileList()) {
+            if(world.getPirateMap().isColliding(projectile.getRectBounds())) {
+                //if projectile collides with map objects - remove
+                projectile.setActive(false);
+                return;
+            }
+
+            for (LivingEntity livingEntity : entityManager.getLivingEntities()) {
+                if (projectile.getShooter() != livingEntity && projectile.getRectBounds().overlaps(livingEntity.getRectBounds())) {
+                    //if bullet overlaps LE and shooter not LE
+                    if (!(livingEntity.isDying() || livingEntity.isDead())) {
+                        livingEntity.damage(projectile);
+                        Gdx.app.debug("WorldSimulation", "LivingEntity damaged by projectile.");
+                        //kill projectile
+                        projectile.setActive(false);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package uk.ac.york.sepr4.object.building;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import lombok.Data;
@@ -17,10 +16,10 @@ public abstract class Building {
     private Float buildingRange = 1500f;
 
     public boolean load(PirateMap pirateMap) {
-        Optional<RectangleMapObject> objectOptional = pirateMap.getMapObject(mapObjectStr);
+        Optional<Rectangle> objectOptional = pirateMap.getMapObject(mapObjectStr);
         if(objectOptional.isPresent()) {
-            RectangleMapObject rect = objectOptional.get();
-            this.mapLocation = pirateMap.scaleTiledVectorToMap(new Vector2(rect.getRectangle().x, rect.getRectangle().y));
+            Rectangle rect = objectOptional.get();
+            this.mapLocation = pirateMap.scaleTiledVectorToMap(new Vector2(rect.x, rect.y));
             return true;
         } else {
             Gdx.app.log("Building", "Could not load map object for building: " + name);
@@ -6,13 +6,18 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Json;
 import lombok.Data;
-import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.crew.CrewMember;
 import uk.ac.york.sepr4.object.entity.Player;
 import uk.ac.york.sepr4.object.entity.npc.NPCBoat;
 import uk.ac.york.sepr4.object.entity.npc.NPCBuilder;
+import uk.ac.york.sepr4.utils.RandomStreams;
+import uk.ac.york.sepr4.utils.TaskPool;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Random;
+import java.util.concurrent.Future;
 
 @Data
 public class BuildingManager {
@@ -21,31 +26,62 @@ public class BuildingManager {
     private Array<Department> departments = new Array<>();
     private Array<MinigameBuilding> taverns = new Array<>();
 
-    private GameInstance gameInstance;
+    private World world;
+
+    //building files being parsed on the task pool, until joined
+    private List<Future<Array<Building>>> definitions = new ArrayList<>();
 
     /***
      * This class handles instances of buildings (Colleges and Departments)
      *
      * It is responsible for loading from file and making sure the map object relating to this building is present.
      * There is a method which arranges spawning of college enemies.
-     * @param gameInstance
+     * Building files are parsed in the background - call join before using buildings.
+     * @param world
+     * @param taskPool pool to parse building files on
      */
-    public BuildingManager(GameInstance gameInstance) {
-        this.gameInstance = gameInstance;
-
-        if(gameInstance.getPirateMap().isObjectsEnabled()) {
-            Json json = new Json();
-            loadBuildings(json.fromJson(Array.class, College.class, Gdx.files.internal("data/colleges.json")));
-            loadBuildings(json.fromJson(Array.class, Department.class, Gdx.files.internal("data/departments.json")));
-            loadBuildings(json.fromJson(Array.class, MinigameBuilding.class, Gdx.files.internal("data/minigame.json")));
-            Gdx.app.log("BuildingManager",
-                    "Loaded "+colleges.size+" colleges and "+departments.size+" departments!");
+    public BuildingManager(World world, TaskPool taskPool) {
+        this.world = world;
 
+        if(world.getPirateMap().isObjectsEnabled()) {
+            definitions.add(parse(taskPool, College.class, "data/colleges.json"));
+            definitions.add(parse(taskPool, Department.class, "data/departments.json"));
+            definitions.add(parse(taskPool, MinigameBuilding.class, "data/minigame.json"));
         } else {
             Gdx.app.error("Building Manager", "Objects not enabled, not loading buildings!");
         }
     }
 
+    /***
+     * Wait for building files to be parsed, then load the buildings.
+     * The map must have been joined first (building locations are map objects).
+     */
+    public void join() {
+        if(definitions.isEmpty()) {
+            return;
+        }
+        for(Future<Array<Building>> definition : definitions) {
+            loadBuildings(TaskPool.join(definition));
+        }
+        definitions.clear();
+        Gdx.app.log("BuildingManager",
+                "Loaded "+colleges.size+" colleges and "+departments.size+" departments!");
+    }
+
+    /***
+     * Parse a building file on the task pool.
+     * @param taskPool pool to parse on
+     * @param type type of building in the file
+     * @param path internal path of json file
+     * @return future list of buildings (not yet loaded)
+     */
+    @SuppressWarnings("unchecked")
+    private static Future<Array<Building>> parse(TaskPool taskPool, Class<? extends Building> type, String path) {
+        //Json is not thread safe, so each task has its own
+        return taskPool.submit("Parse " + path,
+                () -> (Array<Building>) new Json().fromJson(Array.class, type, Gdx.files.internal(path)));
+    }
+
     /***
      * Check whether the college boss should spawn.
      */
@@ -54,13 +90,13 @@ public class BuildingManager {
             //check if boss already spawned or college npc kill threshold reached
             if(!college.isBossSpawned() && college.getBossSpawnThreshold() == 0) {
                 //TODO: Add collision check for boss spawn
-                Player player = gameInstance.getEntityManager().getOrCreatePlayer();
+                Player player = world.getEntityManager().getOrCreatePlayer();
                 if (college.getBuildingZone().contains(player.getRectBounds())) {
                     Gdx.app.debug("BuildingManager", "Player entered college zone: " + college.getName());
                     Optional<NPCBoat> npcBoss = generateCollegeNPC(college, true);
                     if(npcBoss.isPresent()) {
                         college.setBossSpawned(true);
-                        gameInstance.getEntityManager().addNPC(npcBoss.get());
+                        world.getEntityManager().addNPC(npcBoss.get());
                     }
 
                 }
@@ -77,10 +113,10 @@ public class BuildingManager {
     private Optional<Vector2> getValidRandomSpawn(College college, float size) {
         int attempts = 0;
         while (attempts<10) {
-            Vector2 test = college.getRandomSpawnVector();
+            Vector2 test = college.getRandomSpawnVector(world.getRandom().get(RandomStreams.Stream.SPAWN));
             Rectangle rectangle = new Rectangle(test.x-(size/2), test.y-(size/2), size, size);
-            if(!gameInstance.getPirateMap().isColliding(rectangle)
-                    && !gameInstance.getEntityManager().isOccupied(rectangle)) {
+            if(!world.getPirateMap().isColliding(rectangle)
+                    && !world.getEntityManager().isOccupied(rectangle)) {
                 return Optional.of(test);
             }
             attempts++;
@@ -95,11 +131,10 @@ public class BuildingManager {
      * @return       An NPCBoat with correct parameters
      */
     public Optional<NPCBoat> generateCollegeNPC(College college, boolean boss) {
-        Random random = new Random();
-        if(random.nextDouble() <= college.getSpawnChance()){
+        if(world.getRandom().nextDouble(RandomStreams.Stream.SPAWN) <= college.getSpawnChance()){
             Optional<Vector2> pos = getValidRandomSpawn(college, 250f);
             if(pos.isPresent()) {
-                NPCBoat boat = new NPCBuilder().generateRandomEnemyBoat( pos.get(), Optional.of(college),
+                NPCBoat boat = new NPCBuilder(world).generateRandomEnemyBoat( pos.get(), Optional.of(college),
                          boss ? college.getBossDifficulty() : college.getEnemyDifficulty(), boss);
                 return Optional.of(boat);
             }
@@ -118,12 +153,12 @@ public class BuildingManager {
      */
     private void loadBuildings(Array<Building> loading) {
         for(Building building : loading) {
-            if (building.load(gameInstance.getPirateMap())) {
+            if (building.load(world.getPirateMap())) {
                 if(building instanceof College) {
                     //check if crew member id is defined
                     College college = (College) building;
                     Optional<CrewMember> optionalCrewMember =
-                            gameInstance.getCrewBank().getCrewFromID(college.getCrewMemberId());
+                            world.getCrewBank().getCrewFromID(college.getCrewMemberId());
                     if(optionalCrewMember.isPresent()) {
                         college.setCrewMember(optionalCrewMember.get());
                         colleges.add(college);
@@ -133,7 +168,7 @@ public class BuildingManager {
                     //check if crew member id is defined
                     Department department = (Department) building;
                     Optional<CrewMember> optionalCrewMember =
-                            gameInstance.getCrewBank().getCrewFromID(department.getCrewMemberId());
+                            world.getCrewBank().getCrewFromID(department.getCrewMemberId());
                     if(optionalCrewMember.isPresent()) {
                         department.setCrewMember(optionalCrewMember.get());
                         departments.add(department);
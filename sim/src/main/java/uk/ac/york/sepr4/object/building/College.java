@@ -9,7 +9,7 @@ import uk.ac.york.sepr4.object.crew.CrewMember;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 @Data
 public class College extends Building {
@@ -74,13 +74,13 @@ public class College extends Building {
 
     /***
      * Get random location in college's spawn zone
+     * @param random stream to draw the location from
      * @return random vector position
      */
-    public Vector2 getRandomSpawnVector() {
-        Random random = new Random();
+    public Vector2 getRandomSpawnVector(SplittableRandom random) {
         Rectangle rectangle = getCollegeSpawnZone();
-        float randX = rectangle.x+(random.nextFloat() * (rectangle.width));
-        float randY = rectangle.y+(random.nextFloat() * (rectangle.height));
+        float randX = rectangle.x+(float)(random.nextDouble() * (rectangle.width));
+        float randY = rectangle.y+(float)(random.nextDouble() * (rectangle.height));
         //Gdx.app.debug("RandSpawn", "x:"+randX+", y:"+randY);
         //Gdx.app.debug("RandSpawn", "w:"+rectangle.width+", h:"+rectangle.height);
 
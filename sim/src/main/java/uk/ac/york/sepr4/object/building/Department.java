@@ -0,0 +1,58 @@
+package uk.ac.york.sepr4.object.building;
+
+import lombok.Data;
+import uk.ac.york.sepr4.object.crew.CrewMember;
+import uk.ac.york.sepr4.object.entity.Player;
+
+@Data
+public class Department extends Building {
+    private Float buildingRange = 2500f;
+    private Integer crewMemberId, healCost;
+
+    //populated after load
+    private CrewMember crewMember;
+
+    public Department() {
+        // Empty constructor for JSON DAO
+    }
+
+    /***
+     * @param player player to repair
+     * @return cost of repairing the player to full health
+     */
+    public Integer getRepairCost(Player player) {
+        return (int)Math.round(healCost*(player.getMaxHealth()-player.getHealth()));
+    }
+
+    /***
+     * Repair the player to full health, if they can afford it.
+     * @param player player buying the repair
+     * @return true if repaired
+     */
+    public boolean repair(Player player) {
+        if(player.getBalance()>=getRepairCost(player)) {
+            //has enough gold
+            player.deductBalance(getRepairCost(player));
+            player.setHealth(player.getMaxHealth());
+            return true;
+        }
+        return false;
+    }
+
+    /***
+     * Upgrade the department's crew member, if unlocked, affordable and not at maximum level.
+     * @param player player buying the upgrade
+     * @return true if upgraded
+     */
+    public boolean upgrade(Player player) {
+        if(player.getCrewMembers().contains(crewMember)
+                && (player.getBalance()>=crewMember.getUpgradeCost())
+                && crewMember.canUpgrade()) {
+            //has enough gold and not maximum level
+            player.deductBalance(crewMember.getUpgradeCost());
+            crewMember.upgrade();
+            return true;
+        }
+        return false;
+    }
+}
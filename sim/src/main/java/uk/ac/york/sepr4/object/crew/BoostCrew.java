@@ -1,6 +1,5 @@
 package uk.ac.york.sepr4.object.crew;
 
-import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.object.entity.Player;
 
 public class BoostCrew extends CrewMember {
@@ -12,10 +11,9 @@ public class BoostCrew extends CrewMember {
     }
 
     @Override
-    public boolean fire(float angle) {
+    public boolean fire(Player player, float angle) {
         if(getCurrentCooldown() == 0) {
             //can fire
-            Player player = GameInstance.INSTANCE.getEntityManager().getOrCreatePlayer();
             //"boost" player forward
             player.setSpeed(350f);
             setCurrentCooldown(getCooldown());
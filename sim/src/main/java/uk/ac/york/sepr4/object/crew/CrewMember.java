@@ -1,6 +1,12 @@
 package uk.ac.york.sepr4.object.crew;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import uk.ac.york.sepr4.object.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 public abstract class CrewMember {
@@ -10,6 +16,12 @@ public abstract class CrewMember {
     private Double baseDamage;
     private float baseCooldown, currentCooldown = 0f;
 
+    //time (s) until each follow-up shot of the last firing, counted down with the cooldown
+    private List<Float> followUpShots = new ArrayList<>();
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private Player shooter;
+    private float followUpAngle;
+
     public CrewMember(Integer id, String name, String key, Double baseDamage,
                       Integer baseUpgradeCost, Integer upgradeCostMultiplier, Integer maxLevel, float baseCooldown) {
         this.id = id;
@@ -41,7 +53,7 @@ public abstract class CrewMember {
     }
 
     //implemented by extending classses
-    public abstract boolean fire(float angle);
+    public abstract boolean fire(Player player, float angle);
 
     public void decrementCooldown(float delta) {
         if(currentCooldown<delta) {
@@ -49,6 +61,35 @@ public abstract class CrewMember {
         } else {
             currentCooldown-=delta;
         }
+        updateFollowUpShots(delta);
+    }
+
+    /***
+     * Fire more projectiles after the first (e.g. double shot), at the same angle.
+     * @param player player firing
+     * @param angle angle at which to fire
+     * @param delays time after now of each shot (s)
+     */
+    protected void scheduleFollowUpShots(Player player, float angle, float... delays) {
+        this.shooter = player;
+        this.followUpAngle = angle;
+        followUpShots.clear();
+        for (float delay : delays) {
+            followUpShots.add(delay);
+        }
+    }
+
+    private void updateFollowUpShots(float delta) {
+        for (int i = followUpShots.size() - 1; i >= 0; i--) {
+            float remaining = followUpShots.get(i) - delta;
+            if (remaining <= 0) {
+                followUpShots.remove(i);
+                shooter.getWorld().getEntityManager().getProjectileManager()
+                        .spawnProjectile(shooter, shooter.getSpeed(), followUpAngle, getDamage());
+            } else {
+                followUpShots.set(i, remaining);
+            }
+        }
     }
 
     protected float getCooldown() {
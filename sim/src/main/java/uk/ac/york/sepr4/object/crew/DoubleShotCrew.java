@@ -0,0 +1,30 @@
+package uk.ac.york.sepr4.object.crew;
+
+import uk.ac.york.sepr4.object.entity.EntityManager;
+import uk.ac.york.sepr4.object.entity.Player;
+
+public class DoubleShotCrew extends CrewMember {
+
+
+    public DoubleShotCrew() {
+        super(1, "Double Shot", "2", 5.0,
+                100, 3, 5, 15f);
+    }
+
+    @Override
+    public boolean fire(Player player, float angle) {
+        if(getCurrentCooldown() == 0) {
+            //can fire
+            EntityManager entityManager = player.getWorld().getEntityManager();
+            entityManager.getProjectileManager().spawnProjectile(player, player.getSpeed(), angle, getDamage());
+            entityManager.getAnimationManager().addFiringAnimation(player, angle - (float)Math.PI/2);
+            setCurrentCooldown(getCooldown());
+
+            //fire another projectile 0.3 seconds later
+            scheduleFollowUpShots(player, angle, 0.3f);
+            return true;
+        }
+        //cooling down
+        return false;
+    }
+}
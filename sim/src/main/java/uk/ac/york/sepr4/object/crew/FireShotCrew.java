@@ -1,9 +1,8 @@
 package uk.ac.york.sepr4.object.crew;
 
-import uk.ac.york.sepr4.GameInstance;
-import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.object.entity.EntityManager;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.Sprite;
 
 public class FireShotCrew extends CrewMember {
     public FireShotCrew() {
@@ -11,12 +10,11 @@ public class FireShotCrew extends CrewMember {
     }
 
     @Override
-    public boolean fire(float angle) {
+    public boolean fire(Player player, float angle) {
         if(getCurrentCooldown() == 0) {
             //can fire
-            EntityManager entityManager = GameInstance.INSTANCE.getEntityManager();
-            Player player = GameInstance.INSTANCE.getEntityManager().getOrCreatePlayer();
-            entityManager.getProjectileManager().spawnProjectile(player, FileManager.CANNONBALL_FIRE,
+            EntityManager entityManager = player.getWorld().getEntityManager();
+            entityManager.getProjectileManager().spawnProjectile(player, Sprite.CANNONBALL_FIRE,
                     player.getSpeed(), angle, getDamage(), true);
             entityManager.getAnimationManager().addFiringAnimation(player, angle - (float)Math.PI/2);
             setCurrentCooldown(getCooldown());
@@ -1,6 +1,5 @@
 package uk.ac.york.sepr4.object.crew;
 
-import uk.ac.york.sepr4.GameInstance;
 import uk.ac.york.sepr4.object.entity.EntityManager;
 import uk.ac.york.sepr4.object.entity.Player;
 
@@ -13,11 +12,10 @@ public class PowerShotCrew extends CrewMember {
     }
 
     @Override
-    public boolean fire(float angle) {
+    public boolean fire(Player player, float angle) {
         if(getCurrentCooldown() == 0) {
             //can fire
-            EntityManager entityManager = GameInstance.INSTANCE.getEntityManager();
-            Player player = GameInstance.INSTANCE.getEntityManager().getOrCreatePlayer();
+            EntityManager entityManager = player.getWorld().getEntityManager();
             entityManager.getProjectileManager().spawnProjectile(player, player.getSpeed(), angle, getDamage());
             entityManager.getAnimationManager().addFiringAnimation(player, angle - (float)Math.PI/2);
             setCurrentCooldown(getCooldown());
@@ -0,0 +1,30 @@
+package uk.ac.york.sepr4.object.crew;
+
+import uk.ac.york.sepr4.object.entity.EntityManager;
+import uk.ac.york.sepr4.object.entity.Player;
+
+public class TripleShotCrew extends CrewMember {
+
+
+    public TripleShotCrew() {
+        super(5, "Triple Shot", "6", 5.0,
+                100, 3, 5, 15f);
+    }
+
+    @Override
+    public boolean fire(Player player, float angle) {
+        if(getCurrentCooldown() == 0) {
+            //can fire
+            EntityManager entityManager = player.getWorld().getEntityManager();
+            entityManager.getProjectileManager().spawnProjectile(player, player.getSpeed(), angle, getDamage());
+            entityManager.getAnimationManager().addFiringAnimation(player, angle - (float)Math.PI/2);
+            setCurrentCooldown(getCooldown());
+
+            //fire two more projectiles 0.3 and 0.6 seconds later
+            scheduleFollowUpShots(player, angle, 0.3f, 0.6f);
+            return true;
+        }
+        //cooling down
+        return false;
+    }
+}
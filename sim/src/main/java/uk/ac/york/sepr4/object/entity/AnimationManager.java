@@ -1,12 +1,10 @@
 package uk.ac.york.sepr4.object.entity;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import lombok.Getter;
-import uk.ac.york.sepr4.io.FileManager;
+import lombok.Setter;
 import uk.ac.york.sepr4.object.entity.npc.NPCBoat;
 import uk.ac.york.sepr4.object.entity.npc.NPCMonster;
 import uk.ac.york.sepr4.utils.AIUtil;
@@ -18,8 +16,9 @@ public class AnimationManager {
 
     private EntityManager entityManager;
 
-    //For cleanup
-    private Array<Entity> lastFrameEffects = new Array<>(); //Needed for clean up
+    //effects spawned by the last step (drawn until the next step replaces them)
+    @Getter
+    private Array<Entity> activeEffects = new Array<>();
     @Getter
     private List<DeathAnimation> deathAnimations = new ArrayList<>();
     private List<FireAnimation> fireAnimations = new ArrayList<>();
@@ -31,13 +30,27 @@ public class AnimationManager {
     //Cannon "boom" animation
     private List<CannonExplosion> cannonExplosions = new ArrayList<>();
 
+    //when set, effects (trails, explosions, fire) are not drawn - used when zoomed out
+    @Getter
+    @Setter
+    private boolean lowDetail = false;
+
     public AnimationManager(EntityManager entityManager) {
         this.entityManager = entityManager;
     }
 
     //Takes the centre x,y of where you want the effect to appear
-    public void addEffect(float x, float y, float angle, Texture texture, int width, int height, float alpha){
-        Entity effect = new Entity(texture, new Vector2(x,y)) {};
+    public void addEffect(float x, float y, float angle, Sprite sprite, int width, int height, float alpha){
+        addEffect(x, y, angle, sprite, 1, width, height, alpha);
+    }
+
+    //As above, showing the given frame of an animated sprite
+    public void addEffect(float x, float y, float angle, Sprite sprite, int frame, int width, int height, float alpha){
+        if(lowDetail) {
+            return;
+        }
+        Entity effect = new Entity(sprite, new Vector2(x,y)) {};
+        effect.setFrame(frame);
         effect.setY(y - height/2);
         effect.setX(x - width/2);
         effect.setWidth(width);
@@ -48,23 +61,16 @@ public class AnimationManager {
     }
 
     /**
-     * Removes all effects then adds all new effects
-     * Effects work on a frame by frame basis so need to be spawned in every frame
+     * Replaces all effects with the new effects
+     * Effects work on a step by step basis so need to be spawned every step
      */
-    public void handleEffects(Stage stage, float delta) {
+    public void handleEffects(float delta) {
         updateDeathAnimations(delta);
         updateWaterTrails();
         updateFiringAnimations();
         updateBoatFire();
-        stage.getActors().removeAll(this.lastFrameEffects, true);
-
-        for (Entity effect : effects) {
-            if (!stage.getActors().contains(effect, true)) {
-                stage.addActor(effect);
-            }
-        }
 
-        this.lastFrameEffects = this.effects;
+        this.activeEffects = this.effects;
         this.effects = new Array<>();
     }
 
@@ -199,13 +205,13 @@ class DeathAnimation {
 
     public DeathAnimation(LivingEntity lE) {
         this.lE = lE;
-        lE.setTexture(FileManager.DEAD_ENEMY);
+        lE.setSprite(Sprite.DEAD_ENEMY);
         lE.setAlpha(1-(deathTimer/5));
     }
 
     public void spawnEffects(AnimationManager animationManager, float delta) {
         animationManager.addEffect(lE.getCentre().x, lE.getCentre().y, lE.getAngle(),
-                FileManager.deathFrame(frame), 40, 40, 1);
+                Sprite.DEATH, frame, 40, 40, 1);
 
         deathTimer+=delta;
         if (deathTimer > 5){
@@ -214,7 +220,7 @@ class DeathAnimation {
             lE.setDying(false);
             return;
         } else {
-            if(frame == 3) {
+            if(frame == Sprite.DEATH.getFrames()) {
                 frame = 1;
             } else {
                 frame ++;
@@ -235,11 +241,12 @@ class FireAnimation {
         animationManager.addEffect(lE.getCentre().x,
                 lE.getCentre().y,
                 lE.getAngle(),
-                FileManager.boatFireFrame(frame),
+                Sprite.BOAT_FIRE,
+                frame,
                 (int)lE.getWidth(),
                 (int)lE.getHeight(),
                 1);
-        if(frame==17) {
+        if(frame==Sprite.BOAT_FIRE.getFrames()) {
             frame=1;
         } else {
             frame++;
@@ -258,7 +265,7 @@ class CannonExplosion {
     }
 
     public boolean isComplete() {
-        return (frame==21);
+        return (frame > Sprite.FIRING.getFrames());
     }
 
     public void spawnEffects(AnimationManager animationManager) {
@@ -266,7 +273,7 @@ class CannonExplosion {
                 firingAngle + (float)Math.PI/2, 50),
                 AIUtil.getYwithAngleandDistance(lE.getCentre().y,
                         firingAngle + (float)Math.PI/2, 50),
-                firingAngle, FileManager.firingFrame(frame),
+                firingAngle, Sprite.FIRING, frame,
                 70, 50, 1);
         frame++;
     }
@@ -303,17 +310,17 @@ class WaterTrail {
 
             if (distance > 0.1) {
                 if (i < lTrails.size() / 4) {
-                    animationManager.addEffect(xM, yM, angleP, FileManager.MIDDLEBOATTRAIL1, (int)(distance + 5), 10,0.1f);
-                    animationManager.addEffect(xM2, yM2, angleP2,  FileManager.MIDDLEBOATTRAIL1, (int)(distance2 + 5), 10,0.1f);
+                    animationManager.addEffect(xM, yM, angleP, Sprite.BOAT_TRAIL, (int)(distance + 5), 10,0.1f);
+                    animationManager.addEffect(xM2, yM2, angleP2,  Sprite.BOAT_TRAIL, (int)(distance2 + 5), 10,0.1f);
                 } else if (i < lTrails.size() / 2) {
-                    animationManager.addEffect(xM, yM, angleP,  FileManager.MIDDLEBOATTRAIL1, (int)(distance + 5), 10,0.2f);
-                    animationManager.addEffect(xM2, yM2, angleP2,  FileManager.MIDDLEBOATTRAIL1, (int)(distance2 + 5), 10,0.2f);
+                    animationManager.addEffect(xM, yM, angleP,  Sprite.BOAT_TRAIL, (int)(distance + 5), 10,0.2f);
+                    animationManager.addEffect(xM2, yM2, angleP2,  Sprite.BOAT_TRAIL, (int)(distance2 + 5), 10,0.2f);
                 } else if (i < 3 * lTrails.size() / 4) {
-                    animationManager.addEffect(xM, yM, angleP,  FileManager.MIDDLEBOATTRAIL1, (int)(distance + 5), 10,0.3f);
-                    animationManager.addEffect(xM2, yM2, angleP2,  FileManager.MIDDLEBOATTRAIL1, (int)(distance2 + 5), 10,0.3f);
+                    animationManager.addEffect(xM, yM, angleP,  Sprite.BOAT_TRAIL, (int)(distance + 5), 10,0.3f);
+                    animationManager.addEffect(xM2, yM2, angleP2,  Sprite.BOAT_TRAIL, (int)(distance2 + 5), 10,0.3f);
                 } else {
-                    animationManager.addEffect(xM, yM, angleP,  FileManager.MIDDLEBOATTRAIL1, (int)(distance + 5), 10,0.5f);
-                    animationManager.addEffect(xM2, yM2, angleP2, FileManager.MIDDLEBOATTRAIL1, (int)(distance2 + 5), 10,0.5f);
+                    animationManager.addEffect(xM, yM, angleP,  Sprite.BOAT_TRAIL, (int)(distance + 5), 10,0.5f);
+                    animationManager.addEffect(xM2, yM2, angleP2, Sprite.BOAT_TRAIL, (int)(distance2 + 5), 10,0.5f);
                 }
             }
         }
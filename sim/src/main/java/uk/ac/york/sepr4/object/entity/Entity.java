@@ -0,0 +1,119 @@
+package uk.ac.york.sepr4.object.entity;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+/***
+ * Simulation state of a world object (ship, projectile, effect). Updated once per fixed step by the game loop.
+ * Entities are not scene2d actors - they are drawn by the core module (EntityRenderer), which only reads them.
+ */
+@Data
+public abstract class Entity {
+
+    private float x, y, width, height;
+    private float angle, speed, alpha = 1;
+    //what to draw (looked up by the renderer) and which frame of it, for animations
+    private Sprite sprite;
+    private int frame = 1;
+
+    //transform before the last simulation step - drawing interpolates from here to the current transform
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private float previousX, previousY, previousAngle;
+    //false until the first step (nothing to interpolate from)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private boolean stepped = false;
+
+    public Entity(Sprite sprite, Vector2 pos) {
+        this.sprite = sprite;
+
+        // Bounds match the sprite
+        this.width = sprite.getWidth();
+        this.height = sprite.getHeight();
+        // Set position
+        setX(pos.x);
+        setY(pos.y);
+    }
+
+    /***
+     * Move entity for one simulation step.
+     * @param deltaTime length of step
+     */
+    public void update(float deltaTime) {
+        previousX = getX();
+        previousY = getY();
+        previousAngle = getAngle();
+        stepped = true;
+
+        setY((float) (getY()-(getSpeed()*deltaTime*Math.cos(getAngle()))));
+        setX((float) (getX()+(getSpeed()*deltaTime*Math.sin(getAngle()))));
+    }
+
+    /***
+     * X to draw at this frame (between previous and current step).
+     * @param interpolation fraction of a step elapsed since the last step (0 to 1)
+     */
+    public float getRenderX(float interpolation) {
+        return stepped ? MathUtils.lerp(previousX, getX(), interpolation) : getX();
+    }
+
+    /***
+     * Y to draw at this frame (between previous and current step).
+     * @param interpolation fraction of a step elapsed since the last step (0 to 1)
+     */
+    public float getRenderY(float interpolation) {
+        return stepped ? MathUtils.lerp(previousY, getY(), interpolation) : getY();
+    }
+
+    /***
+     * Angle to draw at this frame, turning the shorter way between previous and current step.
+     * @param interpolation fraction of a step elapsed since the last step (0 to 1)
+     */
+    public float getRenderAngle(float interpolation) {
+        if (!stepped) {
+            return getAngle();
+        }
+        float difference = getAngle() - previousAngle;
+        //wrap into -PI to PI
+        difference = (difference + MathUtils.PI) % MathUtils.PI2;
+        if (difference < 0) {
+            difference += MathUtils.PI2;
+        }
+        difference -= MathUtils.PI;
+        return previousAngle + difference * interpolation;
+    }
+
+    public Vector2 getRenderCentre(float interpolation) {
+        return new Vector2(getRenderX(interpolation) + (getSprite().getWidth() / 2f),
+                getRenderY(interpolation) + (getSprite().getHeight() / 2f));
+    }
+
+    //UTILITY METHODS
+    public float getAngleTowardsEntity(Entity entity) {
+        double d_angle = Math.atan(((entity.getCentre().y - getCentre().y) / (entity.getCentre().x - getCentre().x)));
+        if (entity.getCentre().x < getCentre().x) {
+            d_angle += Math.PI;
+        }
+        return (float) (d_angle + Math.PI / 2);
+    }
+
+    public Vector2 getCentre() {
+        return new Vector2(getX() + (getSprite().getWidth() / 2f), getY() + (getSprite().getHeight() / 2f));
+    }
+
+    public double distanceFrom(Entity entity) {
+        return (float) Math.sqrt(Math.pow((entity.getCentre().x - getCentre().x), 2) + Math.pow((entity.getCentre().y - getCentre().y), 2));
+    }
+    public double distanceFrom(Vector2 pos) {
+        return (float) Math.sqrt(Math.pow((pos.x - getCentre().x), 2) + Math.pow((pos.y - getCentre().y), 2));
+    }
+
+    public Rectangle getRectBounds() {
+        return new Rectangle(getX(), getY(), getWidth(), getHeight());
+    }
+
+}
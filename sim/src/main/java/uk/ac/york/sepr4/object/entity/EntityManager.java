@@ -4,16 +4,17 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import lombok.Getter;
-import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.building.*;
 import uk.ac.york.sepr4.object.entity.npc.NPCBoat;
 import uk.ac.york.sepr4.object.entity.npc.NPCBuilder;
 import uk.ac.york.sepr4.object.entity.npc.NPCEntity;
 import uk.ac.york.sepr4.object.entity.npc.NPCMonster;
+import uk.ac.york.sepr4.object.projectile.Projectile;
 import uk.ac.york.sepr4.object.projectile.ProjectileManager;
+import uk.ac.york.sepr4.utils.RandomStreams;
 import uk.ac.york.sepr4.utils.ShapeUtil;
 
 import java.util.*;
@@ -23,7 +24,7 @@ public class EntityManager {
 
     private Player player;
 
-    private GameInstance gameInstance;
+    private World world;
     @Getter
     private AnimationManager animationManager;
     @Getter
@@ -37,8 +38,8 @@ public class EntityManager {
     //time till next spawn attempt
     private float spawnDelta = 0f;
 
-    public EntityManager(GameInstance gameInstance) {
-        this.gameInstance = gameInstance;
+    public EntityManager(World world) {
+        this.world = world;
 
         this.projectileManager = new ProjectileManager();
         this.animationManager = new AnimationManager(this);
@@ -46,7 +47,7 @@ public class EntityManager {
     
     public Player getOrCreatePlayer() {
         if(player == null) {
-            player = new Player(gameInstance.getPirateMap().getSpawnPoint());
+            player = new Player(world, world.getPirateMap().getSpawnPoint());
             animationManager.createWaterTrail(player);
         }
         return player;
@@ -75,17 +76,17 @@ public class EntityManager {
      * @return Optional building if player is within range of one.
      */
     public Optional<Building> getPlayerLocation() {
-        for(College building : gameInstance.getBuildingManager().getColleges()) {
+        for(College building : world.getBuildingManager().getColleges()) {
             if(building.getBuildingZone().contains(player.getX(), player.getY())) {
                 return Optional.of(building);
             }
         }
-        for(Department building : gameInstance.getBuildingManager().getDepartments()) {
+        for(Department building : world.getBuildingManager().getDepartments()) {
             if(building.getBuildingZone().contains(player.getX(), player.getY())) {
                 return Optional.of(building);
             }
         }
-        for(MinigameBuilding building : gameInstance.getBuildingManager().getTaverns()) {
+        for(MinigameBuilding building : world.getBuildingManager().getTaverns()) {
             if(building.getBuildingZone().contains(player.getX(), player.getY())) {
                 return Optional.of(building);
             }
@@ -108,27 +109,40 @@ public class EntityManager {
         }
     }
 
-    //General update method for entities.
-    public void handleStageEntities(Stage stage, float delta){
-        projectileManager.handleProjectiles(stage);
-        handleNPCs(stage);
-        animationManager.handleEffects(stage, delta);
+    //General update method for entities - removes dead NPCs and spent projectiles, spawns effects.
+    public void handleEntities(float delta){
+        projectileManager.removeNonActiveProjectiles();
+        removeDeadNPCs();
+        animationManager.handleEffects(delta);
     }
 
-    /**
-     * Adds and removes NPCs as actors from the stage.
+    /***
+     * Move the player, NPCs and projectiles for one step.
+     * Indexed loops - NPC AI iterates the NPC list itself and may fire (adding projectiles).
+     * @param delta length of step
      */
-    private void handleNPCs(Stage stage) {
-        stage.getActors().removeAll(removeDeadNPCs(), true);
-
-        for (NPCEntity npcEntity : npcList) {
-            if (!stage.getActors().contains(npcEntity, true)) {
-                Gdx.app.debug("EntityManager", "Adding new NPCBoat to actors list.");
-                stage.addActor(npcEntity);
-            }
+    public void updateEntities(float delta) {
+        getOrCreatePlayer().update(delta);
+        for (int i = 0; i < npcList.size; i++) {
+            npcList.get(i).update(delta);
+        }
+        Array<Projectile> projectiles = projectileManager.getProjectileList();
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).update(delta);
         }
     }
 
+    /***
+     * Add every entity to draw (in draw order: player, NPCs, projectiles, then effects).
+     * @param entities array to add to
+     */
+    public void getEntities(Array<Entity> entities) {
+        entities.add(getOrCreatePlayer());
+        entities.addAll(npcList);
+        entities.addAll(projectileManager.getProjectileList());
+        entities.addAll(animationManager.getActiveEffects());
+    }
+
     /***
      * Spawn college and random NPCs.
      * @param delta time since last render.
@@ -138,15 +152,15 @@ public class EntityManager {
         //dont check for spawn every render (every second).
         if(spawnDelta >= 1f) {
             //Spawn college NPCs if player close
-            BuildingManager buildingManager = gameInstance.getBuildingManager();
+            BuildingManager buildingManager = world.getBuildingManager();
             for (College college : buildingManager.getColleges()) {
                 //check how many entities already exist in college zone (dont spawn too many)
                 if (college.getBuildingZone().contains(player.getRectBounds())) {
                     //if player is in college range
-                    if (gameInstance.getEntityManager().getLivingEntitiesInArea(college.getBuildingZone()).size
+                    if (world.getEntityManager().getLivingEntitiesInArea(college.getBuildingZone()).size
                             < college.getMaxEntities()) {
                         //if not too many entities already
-                        Optional<NPCBoat> optionalEnemy = gameInstance.getBuildingManager().generateCollegeNPC(college, false);
+                        Optional<NPCBoat> optionalEnemy = world.getBuildingManager().generateCollegeNPC(college, false);
                         if (optionalEnemy.isPresent()) {
                             //checks if spawn spot is valid
                             Gdx.app.debug("Building Manager", "Spawning a college enemy at " + college.getName());
@@ -158,27 +172,27 @@ public class EntityManager {
                 }
             }
 
-            HashMap<Polygon, Integer> spawnZones = gameInstance.getPirateMap().getSpawnZones();
-            Player player = gameInstance.getEntityManager().getOrCreatePlayer();
+            HashMap<Polygon, Integer> spawnZones = world.getPirateMap().getSpawnZones();
+            Player player = world.getEntityManager().getOrCreatePlayer();
             if(npcList.size < MAX_ENTITIES) {
                 //if not too many entities already
                 spawnZones.forEach(((polygon, difficulty) -> {
                     //for each spawn zone
                     if (polygon.contains(player.getX(), player.getY())) {
                         //player is spawn zone
-                        Optional<Vector2> optionalSpawnPos = ShapeUtil.getRandomPosition(polygon);
+                        Optional<Vector2> optionalSpawnPos = ShapeUtil.getRandomPosition(polygon,
+                                world.getRandom().get(RandomStreams.Stream.SPAWN));
                         if (optionalSpawnPos.isPresent()) {
                             //got valid spawn point
                             if(checkSpawnPoint(optionalSpawnPos.get())) {
-                                Random random = new Random();
-                                if(KRAKEN_CHANCE>=random.nextFloat()) {
+                                if(KRAKEN_CHANCE>=world.getRandom().nextFloat(RandomStreams.Stream.SPAWN)) {
                                     //chose to generate kraken
-                                    NPCMonster npcMonster = new NPCBuilder().generateRandomMonster(optionalSpawnPos.get(), difficulty);
+                                    NPCMonster npcMonster = new NPCBuilder(world).generateRandomMonster(optionalSpawnPos.get(), difficulty);
                                     Gdx.app.debug("Building Manager", "Spawning a moster");
                                     addNPC(npcMonster);
                                 } else {
                                     //chose to generate boat
-                                    NPCBoat npcBoat = new NPCBuilder().generateRandomEnemyBoat(optionalSpawnPos.get(), Optional.empty(),
+                                    NPCBoat npcBoat = new NPCBuilder(world).generateRandomEnemyBoat(optionalSpawnPos.get(), Optional.empty(),
                                             difficulty, false);
                                     Gdx.app.debug("Building Manager", "Spawning an enemy");
                                     addNPC(npcBoat);
@@ -1,12 +1,11 @@
 package uk.ac.york.sepr4.object.entity;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.math.Vector2;
 import lombok.Data;
-import uk.ac.york.sepr4.GameInstance;
-import uk.ac.york.sepr4.hud.HealthBar;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.projectile.Projectile;
 import uk.ac.york.sepr4.utils.AIUtil;
 import java.util.ArrayList;
@@ -16,6 +15,10 @@ import java.util.UUID;
 @Data
 public abstract class LivingEntity extends Entity {
 
+    //world this entity belongs to (for firing and looking around)
+    @EqualsAndHashCode.Exclude @ToString.Exclude
+    private final World world;
+
     private Double health = 10.0, maxHealth = 10.0, damage = 4.0;
     private boolean isAccelerating, isBraking, isDead, isDying;
     private float currentCooldown = 0f, reqCooldown = 0.8f, maxSpeed = 140f,
@@ -24,19 +27,11 @@ public abstract class LivingEntity extends Entity {
     //TODO: Better ways to monitor this
     private int collidedWithIsland = 0, colliedWithBoat = 0;
 
-    private HealthBar healthBar;
-
     private List<UUID> animationIDs = new ArrayList<>();
 
-    public LivingEntity(Texture texture, Vector2 pos) {
-        super(texture, pos);
-
-        this.healthBar = new HealthBar(this);
-    }
-
-    @Override
-    public void draw(Batch batch, float parentAlpha) {
-        super.draw(batch, parentAlpha);
+    public LivingEntity(World world, Sprite sprite, Vector2 pos) {
+        super(sprite, pos);
+        this.world = world;
     }
 
     public void kill(boolean silent) {
@@ -67,17 +62,12 @@ public abstract class LivingEntity extends Entity {
         return onFire > 0f;
     }
 
-    public HealthBar getHealthBar() {
-        this.healthBar.update();
-        return this.healthBar;
-    }
-
     /***
-     * LivingEntity update/act method
-     * @param deltaTime time since last render
+     * LivingEntity update method
+     * @param deltaTime length of step
      */
     @Override
-    public void act(float deltaTime) {
+    public void update(float deltaTime) {
 
         //decrease weapon cooldown
         setCurrentCooldown(getCurrentCooldown() + deltaTime);
@@ -122,7 +112,7 @@ public abstract class LivingEntity extends Entity {
                 }
             }
             setSpeed(speed);
-            super.act(deltaTime);
+            super.update(deltaTime);
         }
     }
 
@@ -151,7 +141,7 @@ public abstract class LivingEntity extends Entity {
      * @return true if cooldown sufficient and shot has been fired
      */
     public boolean fire(float angle) {
-        EntityManager entityManager = GameInstance.INSTANCE.getEntityManager();
+        EntityManager entityManager = world.getEntityManager();
             if (getCurrentCooldown() >= getReqCooldown()) {
                 setCurrentCooldown(0f);
                 entityManager.getProjectileManager().spawnProjectile( this, getSpeed(), angle, getDamage());
@@ -5,12 +5,12 @@ import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.math.Vector2;
 import lombok.Data;
-import uk.ac.york.sepr4.hud.HealthBar;
-import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.building.College;
+import uk.ac.york.sepr4.object.crew.CrewBank;
 import uk.ac.york.sepr4.object.crew.CrewMember;
 import uk.ac.york.sepr4.object.item.Reward;
-import uk.ac.york.sepr4.screen.SailScreen;
+import uk.ac.york.sepr4.replay.InputLog;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -27,18 +27,18 @@ public class Player extends LivingEntity implements InputProcessor {
 
     public final float DEFAULT_ZOOM = 2.0f, MAP_ZOOM = 5f;
 
-    public Player(Vector2 pos) {
-        super(FileManager.PLAYER, pos);
+    public Player(World world, Vector2 pos) {
+        super(world, Sprite.PLAYER, pos);
         //face up
         setAngle((float)Math.PI);
     }
 
     /***
-     * Player update/act method
-     * @param deltaTime time since last render
+     * Player update method
+     * @param deltaTime length of step
      */
     @Override
-    public void act(float deltaTime) {
+    public void update(float deltaTime) {
         if(!isDying() && !isDead()) {
             float angle = getAngle();
             float angularSpeed = 0;
@@ -53,7 +53,7 @@ public class Player extends LivingEntity implements InputProcessor {
             angle += ((angularSpeed * deltaTime) * (getSpeed() / getMaxSpeed())) % (float) (2 * Math.PI);
             setAngle(angle);
             decrementCrewCooldown(deltaTime);
-            super.act(deltaTime);
+            super.update(deltaTime);
         }
     }
 
@@ -64,7 +64,7 @@ public class Player extends LivingEntity implements InputProcessor {
             super.fire(angle);
         } else {
             CrewMember crewMember = selectedCrewMember.get();
-            crewMember.fire(angle);
+            crewMember.fire(this, angle);
         }
 
         return false;
@@ -95,7 +95,6 @@ public class Player extends LivingEntity implements InputProcessor {
             xp = 0;
             setMaxHealth(getMaxHealth() + 5);
             setHealth(getMaxHealth());
-            updateHealthBar();
             setMaxSpeed(getMaxSpeed() + 20);
             setDamage(getDamage() + 0.1);
         }
@@ -124,70 +123,54 @@ public class Player extends LivingEntity implements InputProcessor {
         return false;
     }
 
-    public void updateHealthBar(){
-        setHealthBar(new HealthBar(this));
-    }
     //Methods below for taking keyboard input from player.
     @Override
     public boolean keyDown(int keycode) {
-        // do nothing if paused
-
-        if(keycode == Input.Keys.W) {
-            setAccelerating(true);
-            return true;
-        }
-
-        if(keycode == Input.Keys.S) {
-            setBraking(true);
-            return true;
-        }
-
-        if(keycode == Input.Keys.A) {
-            // Assessment 3 - changed to make turning more responsive
-            turningLeft = true;
-            return true;
-        }
-
-        if(keycode == Input.Keys.D) {
-            // Assessment 3 - changed to make turning more responsive
-            turningRight = true;
-            return true;
-        }
-        if(keycode == Input.Keys.M) {
-            //minimap
-            SailScreen.getInstance().getOrthographicCamera().zoom = MAP_ZOOM;
-            return true;
-        }
-
-        return false;
+        return handleKey(keycode, true);
     }
 
     @Override
     public boolean keyUp(int keycode) {
-        if(keycode == Input.Keys.W) {
-            setAccelerating(false);
-            return true;
-        }
-
-        if(keycode == Input.Keys.S) {
-            setBraking(false);
-            return true;
-        }
+        return handleKey(keycode, false);
+    }
 
-        if(keycode == Input.Keys.A) {
+    /***
+     * Set movement controls from a key press or release (recorded if the world is recording input).
+     * @param keycode key pressed or released
+     * @param down true if pressed
+     * @return true if the key controls movement
+     */
+    private boolean handleKey(int keycode, boolean down) {
+        if(keycode == Input.Keys.W) {
+            setAccelerating(down);
+        } else if(keycode == Input.Keys.S) {
+            setBraking(down);
+        } else if(keycode == Input.Keys.A) {
             // Assessment 3 - changed to make turning more responsive
-            turningLeft = false;
-            return true;
+            turningLeft = down;
+        } else if(keycode == Input.Keys.D) {
+            // Assessment 3 - changed to make turning more responsive
+            turningRight = down;
+        } else {
+            return false;
         }
+        getWorld().recordInput(down ? InputLog.Event.KEY_DOWN : InputLog.Event.KEY_UP, keycode);
+        return true;
+    }
 
-        if(keycode == Input.Keys.D) {
-            // Assessment 3 - changed to make turning more responsive
-            turningRight = false;
+    /***
+     * Select the crew member bound to a key (1 selects the normal cannon).
+     * @param keycode key pressed
+     * @return true if the key selects crew
+     */
+    public boolean selectCrewByKey(int keycode) {
+        CrewBank crewBank = getWorld().getCrewBank();
+        if(keycode == Input.Keys.NUM_1) {
+            setSelectedCrewMember(Optional.empty());
             return true;
         }
-        if(keycode == Input.Keys.M) {
-            //minimap
-            SailScreen.getInstance().getOrthographicCamera().zoom = DEFAULT_ZOOM;
+        if(crewBank.getCrewKeys().contains(Input.Keys.toString(keycode))) {
+            setSelectedCrewMember(crewBank.getCrewFromKey(Input.Keys.toString(keycode)));
             return true;
         }
         return false;
@@ -0,0 +1,40 @@
+package uk.ac.york.sepr4.object.entity;
+
+import lombok.Getter;
+
+/***
+ * Image an entity is drawn with. The simulation only needs its size - textures are looked up by the renderer.
+ * Sizes match the images in core/assets/images/sprites (the first frame, for animations whose frames differ).
+ */
+public enum Sprite {
+
+    PLAYER(66, 113),
+    ENEMY(66, 113),
+    DEAD_ENEMY(66, 113),
+    COLLEGE_ENEMY(66, 113),
+    BOSS(66, 113),
+    CANNONBALL(10, 10),
+    CANNONBALL_FIRE(13, 21),
+    KRAKEN_WAVE(80, 57),
+    BOAT_TRAIL(54, 67),
+
+    //animations (frames are numbered from 1)
+    //explosion frames shrink (74x75, 60x59, 42x41) - death effects are drawn at a fixed size
+    DEATH(74, 75, 3),
+    FIRING(35, 39, 20),
+    BOAT_FIRE(66, 113, 17),
+    KRAKEN(143, 132, 17);
+
+    @Getter
+    private final int width, height, frames;
+
+    Sprite(int width, int height) {
+        this(width, height, 1);
+    }
+
+    Sprite(int width, int height, int frames) {
+        this.width = width;
+        this.height = height;
+        this.frames = frames;
+    }
+}
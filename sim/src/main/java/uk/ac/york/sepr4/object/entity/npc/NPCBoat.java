@@ -1,14 +1,14 @@
 package uk.ac.york.sepr4.object.entity.npc;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import lombok.Data;
-import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.building.College;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.Sprite;
 import uk.ac.york.sepr4.object.item.Reward;
 import uk.ac.york.sepr4.object.item.RewardManager;
 import uk.ac.york.sepr4.object.projectile.Projectile;
@@ -22,8 +22,8 @@ public class NPCBoat extends NPCEntity {
 
     private boolean isBoss;
 
-    public NPCBoat(Texture texture, Vector2 pos, Integer difficulty) {
-        super(texture, pos, difficulty);
+    public NPCBoat(World world, Sprite sprite, Vector2 pos, Integer difficulty) {
+        super(world, sprite, pos, difficulty);
 
     }
 
@@ -64,7 +64,7 @@ public class NPCBoat extends NPCEntity {
      */
     @Override
     protected Optional<LivingEntity> getNearestTarget() {
-        Player player = GameInstance.INSTANCE.getEntityManager().getOrCreatePlayer();
+        Player player = getWorld().getEntityManager().getOrCreatePlayer();
         Array<LivingEntity> nearby = getLivingEntitiesInRange();
         if (!areAllied(player)) {
             //not allied - target player
@@ -1,15 +1,23 @@
 package uk.ac.york.sepr4.object.entity.npc;
 
 import com.badlogic.gdx.math.Vector2;
-import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.building.College;
+import uk.ac.york.sepr4.object.entity.Sprite;
+import uk.ac.york.sepr4.utils.RandomStreams;
 
 import java.util.Optional;
-import java.util.Random;
 
 public class NPCBuilder {
 
-    public NPCBuilder() {}
+    private World world;
+
+    /***
+     * @param world world the generated NPCs belong to
+     */
+    public NPCBuilder(World world) {
+        this.world = world;
+    }
 
     //Changed for Assessment 3: changed the factory method to create a new boat instead of creating another NPCBuilder
     //Removed the getters and setters for the builder itself as they are never used when using a factory properly
@@ -22,20 +30,20 @@ public class NPCBuilder {
      * @return An NPCBoat with correct stats
      */
     public NPCBoat generateRandomEnemyBoat(Vector2 pos, Optional<College> allied, Integer difficulty, boolean isBoss) {
-        Random random = new Random();
+        RandomStreams random = world.getRandom();
 
         NPCBoat npcBoat;
         if(allied.isPresent()) {
             if (isBoss) {
-                npcBoat = new NPCBoat(FileManager.BOSS, pos, difficulty);
+                npcBoat = new NPCBoat(world, Sprite.BOSS, pos, difficulty);
             } else {
-                npcBoat = new NPCBoat(FileManager.COLLEGE_ENEMY, pos, difficulty);
+                npcBoat = new NPCBoat(world, Sprite.COLLEGE_ENEMY, pos, difficulty);
             }
         } else {
-            npcBoat = new NPCBoat(FileManager.ENEMY, pos, difficulty);
+            npcBoat = new NPCBoat(world, Sprite.ENEMY, pos, difficulty);
         }
 
-        npcBoat.setAngle((float) (2*Math.PI*random.nextDouble()));;
+        npcBoat.setAngle((float) (2*Math.PI*random.nextDouble(RandomStreams.Stream.NPC)));;
         npcBoat.setAccuracy(npcBoat.getAccuracy());
         //10f extra speed per difficulty level
         npcBoat.setMaxSpeed(npcBoat.getMaxSpeed() + (difficulty*10f));
@@ -61,11 +69,11 @@ public class NPCBuilder {
      * @return An NPCMonster with correct stats
      */
     public NPCMonster generateRandomMonster(Vector2 pos, Integer difficulty) {
-        Random random = new Random();
+        RandomStreams random = world.getRandom();
 
-        NPCMonster npcMonster = new NPCMonster(pos, difficulty);
+        NPCMonster npcMonster = new NPCMonster(world, pos, difficulty);
 
-        npcMonster.setAngle((float) (2*Math.PI*random.nextDouble()));;
+        npcMonster.setAngle((float) (2*Math.PI*random.nextDouble(RandomStreams.Stream.NPC)));;
         //5f extra speed per difficulty level
         npcMonster.setMaxSpeed(npcMonster.getMaxSpeed() + (difficulty*5f));
         //0.5f extra turning speed per level
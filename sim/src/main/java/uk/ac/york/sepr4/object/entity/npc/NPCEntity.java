@@ -1,16 +1,16 @@
 package uk.ac.york.sepr4.object.entity.npc;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import lombok.Data;
-import uk.ac.york.sepr4.GameInstance;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.building.College;
 import uk.ac.york.sepr4.object.entity.Entity;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
 import uk.ac.york.sepr4.object.entity.Player;
+import uk.ac.york.sepr4.object.entity.Sprite;
 import uk.ac.york.sepr4.object.projectile.Projectile;
 import uk.ac.york.sepr4.utils.AIUtil;
 
@@ -34,8 +34,8 @@ public abstract class NPCEntity extends LivingEntity {
     private float targetCheck = 3f; //Timer so target check aint every frame
 
 
-    public NPCEntity(Texture texture, Vector2 pos, Integer difficulty) {
-        super(texture, pos);
+    public NPCEntity(World world, Sprite sprite, Vector2 pos, Integer difficulty) {
+        super(world, sprite, pos);
         this.difficulty = difficulty;
     }
 
@@ -44,19 +44,20 @@ public abstract class NPCEntity extends LivingEntity {
      *  They are broken down into sections as to be able to make the code and control structure easier to read.
      *  When calling this function it will actually make the NPC that is in the world do the actions.
      *
-     * @param deltaTime time since last act
+     * @param deltaTime length of step
      */
-    public void act(float deltaTime) {
+    @Override
+    public void update(float deltaTime) {
         AIUtil.actNPCEntity(this, deltaTime);
         checkDespawn();
-        super.act(deltaTime);
+        super.update(deltaTime);
     }
 
     /***
      * Check whether Entity is far enough away from the player to despawn.
      */
     private void checkDespawn() {
-        Player player = GameInstance.INSTANCE.getEntityManager().getOrCreatePlayer();
+        Player player = getWorld().getEntityManager().getOrCreatePlayer();
 
         if (this.distanceFrom(player) > 3000) {
             setDead(true);
@@ -132,7 +133,7 @@ public abstract class NPCEntity extends LivingEntity {
      * @return Array of livingEntities in range of NPC - itself
      */
     protected Array<LivingEntity> getLivingEntitiesInRange() {
-        Array<LivingEntity> nearby = GameInstance.INSTANCE.getEntityManager().getLivingEntitiesInArea(getRangeArea());
+        Array<LivingEntity> nearby = getWorld().getEntityManager().getLivingEntitiesInArea(getRangeArea());
         if (nearby.contains(this, false)) {
             nearby.removeValue(this, false);
         }
@@ -145,7 +146,7 @@ public abstract class NPCEntity extends LivingEntity {
      * @return Array of all projectiles in the range of the NPC
      */
     public Array<Projectile> getProjectilesInRange() {
-        Array<Projectile> nearby = GameInstance.INSTANCE.getEntityManager().getProjectileManager().getProjectileInArea(getRangeArea());
+        Array<Projectile> nearby = getWorld().getEntityManager().getProjectileManager().getProjectileInArea(getRangeArea());
         return nearby;
     }
 
@@ -199,7 +200,7 @@ public abstract class NPCEntity extends LivingEntity {
      * @return the nearest target
      */
     protected Optional<LivingEntity> getNearestTarget() {
-        Player player = GameInstance.INSTANCE.getEntityManager().getOrCreatePlayer();
+        Player player = getWorld().getEntityManager().getOrCreatePlayer();
         Array<LivingEntity> nearby = getLivingEntitiesInRange();
             //target player
             if (nearby.contains(player, false)) {
@@ -2,9 +2,9 @@ package uk.ac.york.sepr4.object.entity.npc;
 
 import com.badlogic.gdx.math.Vector2;
 import lombok.Data;
-import uk.ac.york.sepr4.GameInstance;
-import uk.ac.york.sepr4.io.FileManager;
+import uk.ac.york.sepr4.object.World;
 import uk.ac.york.sepr4.object.entity.EntityManager;
+import uk.ac.york.sepr4.object.entity.Sprite;
 import uk.ac.york.sepr4.object.projectile.Projectile;
 
 @Data
@@ -13,8 +13,8 @@ public class NPCMonster extends NPCEntity {
     private Integer spriteFrame = 1;
     private float spriteUpdate = 0.05f;
 
-    public NPCMonster(Vector2 pos, Integer difficulty) {
-        super(FileManager.krackenFrame(1), pos, difficulty);
+    public NPCMonster(World world, Vector2 pos, Integer difficulty) {
+        super(world, Sprite.KRAKEN, pos, difficulty);
         //half speed and slower firing but more damage
         setMaxSpeed(50f);
         setDamage(4.0);
@@ -26,11 +26,12 @@ public class NPCMonster extends NPCEntity {
      *  They are broken down into sections as to be able to make the code and control structure easier to read.
      *  When calling this function it will actually make the NPC that is in the world do the actions.
      *
-     * @param deltaTime time since last act
+     * @param deltaTime length of step
      */
-    public void act(float deltaTime) {
+    @Override
+    public void update(float deltaTime) {
         upateKrakenSprite(deltaTime);
-        super.act(deltaTime);
+        super.update(deltaTime);
     }
 
     /***
@@ -52,10 +53,10 @@ public class NPCMonster extends NPCEntity {
      */
     @Override
     public boolean fire(float angle) {
-        EntityManager entityManager = GameInstance.INSTANCE.getEntityManager();
+        EntityManager entityManager = getWorld().getEntityManager();
         if (getCurrentCooldown() >= getReqCooldown()) {
             setCurrentCooldown(0f);
-            entityManager.getProjectileManager().spawnProjectile( this, FileManager.KRAKEN_WAVE,
+            entityManager.getProjectileManager().spawnProjectile( this, Sprite.KRAKEN_WAVE,
                     getSpeed(), angle, getDamage(), false);
             return true;
         }
@@ -70,12 +71,12 @@ public class NPCMonster extends NPCEntity {
     private void upateKrakenSprite(float delta) {
         if(spriteUpdate <= delta) {
             spriteUpdate = 0.05f;
-            if (spriteFrame == 17) {
+            if (spriteFrame == Sprite.KRAKEN.getFrames()) {
                 spriteFrame = 1;
             } else {
                 spriteFrame++;
             }
-            setTexture(FileManager.krackenFrame(spriteFrame));
+            setFrame(spriteFrame);
         } else {
             spriteUpdate-=delta;
         }
@@ -1,10 +1,10 @@
 package uk.ac.york.sepr4.object.projectile;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import lombok.Data;
 import uk.ac.york.sepr4.object.entity.Entity;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.object.entity.Sprite;
 
 @Data
 public class Projectile extends Entity {
@@ -21,8 +21,8 @@ public class Projectile extends Entity {
      * @param angle Angle at which the projectile is shot
      * @param damage Damage dealt on impact by projectile
      */
-    public Projectile(LivingEntity shooter, Texture texture, float speed, float angle, double damage){
-         super(texture, shooter.getCentre());
+    public Projectile(LivingEntity shooter, Sprite sprite, float speed, float angle, double damage){
+         super(sprite, shooter.getCentre());
 
         this.shooter = shooter;
 
@@ -33,15 +33,15 @@ public class Projectile extends Entity {
 
     /***
      * Move projectile and despawn if too far from shooter.
-     * @param deltaTime time since last render
+     * @param deltaTime length of step
      */
     @Override
-    public void act(float deltaTime) {
+    public void update(float deltaTime) {
         if(this.distanceFrom(shooter) > 1000) {
             Gdx.app.debug("Projectile","Clearing up distant projectile!");
             this.active = false;
         } else {
-            super.act(deltaTime);
+            super.update(deltaTime);
         }
     }
 }
@@ -1,14 +1,11 @@
 package uk.ac.york.sepr4.object.projectile;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Array;
 import lombok.Getter;
-import uk.ac.york.sepr4.io.FileManager;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
+import uk.ac.york.sepr4.object.entity.Sprite;
 
 public class ProjectileManager {
 
@@ -23,13 +20,13 @@ public class ProjectileManager {
      * Added for Assessment 3: overloaded spawnProjectile to add a damage parameter
      */
     public void spawnProjectile(LivingEntity livingEntity, float speed, float angle, double damage) {
-        Projectile projectile = new Projectile(livingEntity, FileManager.CANNONBALL, speed, angle, damage);
+        Projectile projectile = new Projectile(livingEntity, Sprite.CANNONBALL, speed, angle, damage);
         projectileList.add(projectile);
     }
 
-    //added for crew members to be able to spawn projectiles with different textures
-    public void spawnProjectile(LivingEntity livingEntity, Texture texture, float speed, float angle, double damage, boolean fire) {
-        Projectile projectile = new Projectile(livingEntity, texture, speed, angle, damage);
+    //added for crew members to be able to spawn projectiles with different sprites
+    public void spawnProjectile(LivingEntity livingEntity, Sprite sprite, float speed, float angle, double damage, boolean fire) {
+        Projectile projectile = new Projectile(livingEntity, sprite, speed, angle, damage);
         projectile.setOnFire(fire);
         projectileList.add(projectile);
     }
@@ -44,20 +41,6 @@ public class ProjectileManager {
         }
         return projectiles;
     }
-    /**
-     * Adds and removes projectiles as actors from the stage.
-     */
-    public void handleProjectiles(Stage stage) {
-        stage.getActors().removeAll(removeNonActiveProjectiles(), true);
-
-        for (Projectile projectile : getProjectileList()) {
-            if (!stage.getActors().contains(projectile, true)) {
-                Gdx.app.debug("ProjectileManager", "Adding new projectile to actors list.");
-                stage.addActor(projectile);
-            }
-        }
-    }
-
     public Array<Projectile> removeNonActiveProjectiles() {
         Array<Projectile> toRemove = new Array<Projectile>();
         for(Projectile projectile : projectileList) {
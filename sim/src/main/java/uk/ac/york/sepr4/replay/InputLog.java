@@ -0,0 +1,166 @@
+package uk.ac.york.sepr4.replay;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongArray;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/***
+ * Seed and player input of one game, each input stamped with the simulation step it came before.
+ * Together they replay the game exactly (see InputReplay). Input on other screens (shops, minigames)
+ * is recorded as its effect on the player.
+ *
+ * Binary form: magic, version, seed, length in steps, event count, then per event the step delta and value
+ * as variable length ints and the event type as a byte (about 3 bytes for a key, 6 for a shot).
+ */
+public class InputLog {
+
+    public static final int MAGIC = 0x50475250; //"PGRP"
+    public static final int VERSION = 1;
+
+    public enum Event {
+        //value: keycode (Player key handlers)
+        KEY_DOWN,
+        KEY_UP,
+        //value: keycode of the crew key pressed (SailInputProcessor)
+        CREW,
+        //value: bits of the fire angle (Float.floatToIntBits)
+        FIRE,
+        //value: index of the department (BuildingManager.getDepartments) bought from (DepartmentScreen)
+        REPAIR,
+        UPGRADE,
+        //value: id of a crew member given to the player outside sailing (DEBUG starting crew)
+        ADD_CREW,
+        //value: gold gained (or spent, if negative) outside sailing (MinigameScreen)
+        GOLD
+    }
+
+    @Getter
+    private long seed;
+    //steps the recorded game ran for (at least the step of the last input)
+    @Getter
+    @Setter
+    private long steps = 0;
+    private LongArray ticks = new LongArray();
+    private Array<Event> events = new Array<>();
+    private IntArray values = new IntArray();
+
+    public InputLog(long seed) {
+        this.seed = seed;
+    }
+
+    /***
+     * Add an input. Inputs must be added in order.
+     * @param tick simulation steps completed before the input
+     * @param event type of input
+     * @param value input value (see Event)
+     */
+    public void add(long tick, Event event, int value) {
+        if (ticks.size > 0 && tick < ticks.peek()) {
+            throw new IllegalArgumentException("Input at step " + tick + " is before the last input");
+        }
+        ticks.add(tick);
+        events.add(event);
+        values.add(value);
+    }
+
+    public int size() {
+        return events.size;
+    }
+
+    public long getTick(int index) {
+        return ticks.get(index);
+    }
+
+    public Event getEvent(int index) {
+        return events.get(index);
+    }
+
+    public int getValue(int index) {
+        return values.get(index);
+    }
+
+    //step of the last input (0 if none)
+    public long getLastTick() {
+        return ticks.size == 0 ? 0 : ticks.peek();
+    }
+
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        out.writeLong(Math.max(steps, getLastTick()));
+        out.writeInt(size());
+        long last = 0;
+        for (int i = 0; i < size(); i++) {
+            writeVarLong(out, ticks.get(i) - last);
+            out.writeByte(events.get(i).ordinal());
+            //angles use all 32 bits - keycodes are small
+            if (events.get(i) == Event.FIRE) {
+                out.writeInt(values.get(i));
+            } else {
+                writeVarLong(out, values.get(i));
+            }
+            last = ticks.get(i);
+        }
+        out.flush();
+    }
+
+    /***
+     * Read a log written by write.
+     * @param input stream positioned at the start of the log
+     * @return log
+     * @throws IOException if the stream can not be read or is not an input log
+     */
+    public static InputLog read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not an input log (or old version)");
+        }
+        InputLog log = new InputLog(in.readLong());
+        log.setSteps(in.readLong());
+        int count = in.readInt();
+        Event[] types = Event.values();
+        long tick = 0;
+        for (int i = 0; i < count; i++) {
+            tick += readVarLong(in);
+            int type = in.readUnsignedByte();
+            if (type >= types.length) {
+                throw new IOException("Unknown input type " + type);
+            }
+            Event event = types[type];
+            int value = event == Event.FIRE ? in.readInt() : (int) readVarLong(in);
+            log.add(tick, event, value);
+        }
+        return log;
+    }
+
+    //7 bits per byte, high bit set on all but the last byte (small positive values take 1 byte)
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed input log");
+    }
+}
@@ -0,0 +1,79 @@
+package uk.ac.york.sepr4.replay;
+
+import uk.ac.york.sepr4.object.World;
+import uk.ac.york.sepr4.object.entity.Player;
+
+/***
+ * Plays an input log back into a world created with the log's seed.
+ * Call apply before each simulation step - inputs are applied at the step they were recorded before,
+ * so the world goes through exactly the same states as the recorded game.
+ *
+ * Purchases, DEBUG crew and minigame gold are replayed from their recorded effects (see InputLog.Event).
+ */
+public class InputReplay {
+
+    private InputLog log;
+    private World world;
+    //next input to apply
+    private int next = 0;
+
+    /***
+     * @param log recorded input
+     * @param world joined world, created with the log's seed and not yet stepped
+     */
+    public InputReplay(InputLog log, World world) {
+        if (world.getRandom().getSeed() != log.getSeed()) {
+            throw new IllegalArgumentException("World seed " + world.getRandom().getSeed()
+                    + " does not match input log seed " + log.getSeed());
+        }
+        this.log = log;
+        this.world = world;
+    }
+
+    /***
+     * Apply all inputs recorded before the world's next step.
+     */
+    public void apply() {
+        long tick = world.getWorldSimulation().getTicks();
+        Player player = world.getEntityManager().getOrCreatePlayer();
+        while (next < log.size() && log.getTick(next) <= tick) {
+            int value = log.getValue(next);
+            switch (log.getEvent(next)) {
+                case KEY_DOWN:
+                    player.keyDown(value);
+                    break;
+                case KEY_UP:
+                    player.keyUp(value);
+                    break;
+                case CREW:
+                    player.selectCrewByKey(value);
+                    break;
+                case FIRE:
+                    player.fire(Float.intBitsToFloat(value));
+                    break;
+                case REPAIR:
+                    world.getBuildingManager().getDepartments().get(value).repair(player);
+                    break;
+                case UPGRADE:
+                    world.getBuildingManager().getDepartments().get(value).upgrade(player);
+                    break;
+                case ADD_CREW:
+                    player.addCrewMember(world.getCrewBank().getCrewFromID(value).get());
+                    break;
+                case GOLD:
+                    if (value >= 0) {
+                        player.addBalance(value);
+                    } else {
+                        player.deductBalance(-value);
+                    }
+                    break;
+            }
+            next++;
+        }
+    }
+
+    //true once every input has been applied
+    public boolean isFinished() {
+        return next >= log.size();
+    }
+}
@@ -2,13 +2,14 @@ package uk.ac.york.sepr4.utils;
 
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Array;
 import uk.ac.york.sepr4.object.entity.Entity;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
 import uk.ac.york.sepr4.object.entity.npc.NPCEntity;
+import uk.ac.york.sepr4.utils.RandomStreams.Stream;
 
 import java.util.Optional;
-import java.util.Random;
 
 public class AIUtil {
 
@@ -20,7 +21,7 @@ public class AIUtil {
         Array<Float> forces = new Array<>();
         Array<Float> angles = new Array<>();
 
-        Random r = new Random();
+        RandomStreams r = npcEntity.getWorld().getRandom();
 
         if (!npcEntity.isDying()) {
             //TARGET CHECK***************
@@ -127,7 +128,7 @@ public class AIUtil {
 
                     //Set on a dodge if probability has chosen
                     float prob = 1f * npcEntity.getProjectilesToDodge(npcEntity.getProjectilesInRange()).size;
-                    float random = r.nextFloat() * 100f;
+                    float random = r.nextFloat(Stream.AI) * 100f;
                     if (random < prob) {
                         npcEntity.setDodging(100);
                         Gdx.app.debug("npcEntity", "Dodging");
@@ -166,13 +167,13 @@ public class AIUtil {
                 if (target.getSpeed() < target.getMaxSpeed() / 5) {
                     float fireangle = npcEntity.getAngleTowardsEntity(target);
                     //Calls fire at angle
-                    npcEntity.fire((float) (fireangle + (-(1 / npcEntity.getAccuracy()) * (Math.PI / 32) + r.nextFloat() * (2 * (1 / npcEntity.getAccuracy()) * (Math.PI / 32)))));
+                    npcEntity.fire((float) (fireangle + (-(1 / npcEntity.getAccuracy()) * (Math.PI / 32) + r.nextFloat(Stream.AI) * (2 * (1 / npcEntity.getAccuracy()) * (Math.PI / 32)))));
                 } else {
                     //Stops the AI shooting at distances that are longer than 3 seconds due to infinte inteception points, if going parrell
                     if (AIUtil.timeForPerfectAngleToCollide(npcEntity, target, AIUtil.thetaForAngleDiffrence(AIUtil.normalizeAngle(target.getAngle()), npcEntity.getAngleTowardsEntity(target)), 100) < 3) {
                         float fireangle = AIUtil.perfectAngleToCollide(npcEntity, target, 100);
                         //calls fire at angle
-                        npcEntity.fire((float) (fireangle + (-(1 / npcEntity.getAccuracy()) * (Math.PI / 32) + r.nextFloat() * (2 * (1 / npcEntity.getAccuracy()) * (Math.PI / 32)))));
+                        npcEntity.fire((float) (fireangle + (-(1 / npcEntity.getAccuracy()) * (Math.PI / 32) + r.nextFloat(Stream.AI) * (2 * (1 / npcEntity.getAccuracy()) * (Math.PI / 32)))));
                     }
                 }
                 //******************************
@@ -366,6 +367,24 @@ public class AIUtil {
         }
     }
 
+    /**
+     * Turn needed to face angle2 when facing angle1, the shorter way round.
+     * Turning left increases the angle, so a positive result means turn left.
+     *
+     * @param angle1 current angle
+     * @param angle2 wanted angle
+     * @return angle2 - angle1 wrapped to the range -PI to PI
+     */
+    public static float signedAngleDifference(float angle1, float angle2) {
+        float difference = (angle2 - angle1) % MathUtils.PI2;
+        if (difference > MathUtils.PI) {
+            difference -= MathUtils.PI2;
+        } else if (difference < -MathUtils.PI) {
+            difference += MathUtils.PI2;
+        }
+        return difference;
+    }
+
     /**
      * Refer to NPC Functions 5 - Same as adding together a series of vectors
      * @param angles
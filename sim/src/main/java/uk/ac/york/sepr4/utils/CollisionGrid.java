@@ -0,0 +1,86 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/***
+ * Uniform grid over collision polygons, so collision checks only test polygons near the rectangle
+ * instead of every polygon on the map.
+ *
+ * Each polygon is stored in every cell its bounding rectangle touches. Polygons must not move
+ * after the grid is built.
+ */
+public class CollisionGrid {
+
+    private float cellSize;
+    private float originX, originY;
+    private int columns, rows;
+    //row by row, null where no polygon touches the cell
+    private List<List<Polygon>> cells;
+
+    public CollisionGrid(List<Polygon> polygons, float cellSize) {
+        this.cellSize = cellSize;
+
+        //grid covers the bounds of all polygons
+        Rectangle bounds = null;
+        for (Polygon polygon : polygons) {
+            Rectangle polygonBounds = polygon.getBoundingRectangle();
+            bounds = bounds == null ? new Rectangle(polygonBounds) : bounds.merge(polygonBounds);
+        }
+        if (bounds == null) {
+            bounds = new Rectangle();
+        }
+        originX = bounds.x;
+        originY = bounds.y;
+        columns = Math.max(1, (int) Math.ceil(bounds.width / cellSize));
+        rows = Math.max(1, (int) Math.ceil(bounds.height / cellSize));
+
+        cells = new ArrayList<>(Collections.nCopies(columns * rows, (List<Polygon>) null));
+        for (Polygon polygon : polygons) {
+            Rectangle polygonBounds = polygon.getBoundingRectangle();
+            for (int x = column(polygonBounds.x); x <= column(polygonBounds.x + polygonBounds.width); x++) {
+                for (int y = row(polygonBounds.y); y <= row(polygonBounds.y + polygonBounds.height); y++) {
+                    int index = y * columns + x;
+                    if (cells.get(index) == null) {
+                        cells.set(index, new ArrayList<>());
+                    }
+                    cells.get(index).add(polygon);
+                }
+            }
+        }
+    }
+
+    /***
+     * Check whether any polygon overlaps a rectangle (as ShapeUtil.overlap).
+     * @param rectangle rectangle to check
+     * @return true if a polygon overlaps the rectangle
+     */
+    public boolean isColliding(Rectangle rectangle) {
+        for (int x = column(rectangle.x); x <= column(rectangle.x + rectangle.width); x++) {
+            for (int y = row(rectangle.y); y <= row(rectangle.y + rectangle.height); y++) {
+                List<Polygon> cell = cells.get(y * columns + x);
+                if (cell != null) {
+                    for (Polygon polygon : cell) {
+                        if (ShapeUtil.overlap(polygon, rectangle)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    //coordinates outside the grid are clamped to the edge cells
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int) ((x - originX) / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int) ((y - originY) / cellSize)));
+    }
+}
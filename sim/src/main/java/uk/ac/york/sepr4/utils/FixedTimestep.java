@@ -0,0 +1,60 @@
+package uk.ac.york.sepr4.utils;
+
+import lombok.Getter;
+
+/***
+ * Accumulates frame time and converts it into a whole number of fixed simulation steps.
+ *
+ * The simulation then behaves the same at any frame rate: a fast display runs no step on some
+ * frames, a slow one runs several. Long frames (e.g. a hitch) are clamped to a maximum number of
+ * steps and the rest of the time is dropped, so entities never jump large distances.
+ */
+public class FixedTimestep {
+
+    public static final float DEFAULT_STEP = 1 / 60f;
+    public static final int DEFAULT_MAX_STEPS = 5;
+
+    //length of one simulation step (s)
+    @Getter
+    private float step;
+    private int maxSteps;
+    //frame time not yet simulated (always less than one step after advance)
+    private float accumulator = 0;
+
+    public FixedTimestep() {
+        this(DEFAULT_STEP, DEFAULT_MAX_STEPS);
+    }
+
+    public FixedTimestep(float step, int maxSteps) {
+        this.step = step;
+        this.maxSteps = maxSteps;
+    }
+
+    /***
+     * Add a frame's time.
+     * @param delta time since last frame
+     * @return number of steps to simulate this frame (0 to max steps)
+     */
+    public int advance(float delta) {
+        accumulator += delta;
+        int steps = (int) (accumulator / step);
+        accumulator -= steps * step;
+        //excess time beyond max steps is dropped
+        return Math.min(steps, maxSteps);
+    }
+
+    /***
+     * How far the simulation is between the last step and the next (for interpolating drawing).
+     * @return 0 (just stepped) to 1 (about to step)
+     */
+    public float getAlpha() {
+        return accumulator / step;
+    }
+
+    /***
+     * Discard accumulated time (e.g. after a pause).
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,52 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/***
+ * Measures the duration of consecutive phases (e.g. startup) and logs them.
+ */
+public class PhaseTimer {
+
+    private String name;
+    private long start, last;
+    //phase name to duration (ms), in order
+    private Map<String, Long> phases = new LinkedHashMap<>();
+
+    public PhaseTimer(String name) {
+        this.name = name;
+        this.start = TimeUtils.nanoTime();
+        this.last = start;
+    }
+
+    /***
+     * End the current phase and start the next.
+     * @param phase name of the phase which just finished
+     * @return total time since the timer started (ms)
+     */
+    public long mark(String phase) {
+        long now = TimeUtils.nanoTime();
+        long duration = TimeUtils.nanosToMillis(now - last);
+        long total = TimeUtils.nanosToMillis(now - start);
+        phases.put(phase, duration);
+        last = now;
+        log(name, phase + ": " + duration + "ms (total " + total + "ms)");
+        return total;
+    }
+
+    public Map<String, Long> getPhases() {
+        return phases;
+    }
+
+    private static void log(String tag, String message) {
+        //timers may be used before/without a libGDX application (e.g. tools)
+        if (Gdx.app != null) {
+            Gdx.app.log(tag, message);
+        } else {
+            System.out.println("[" + tag + "] " + message);
+        }
+    }
+}
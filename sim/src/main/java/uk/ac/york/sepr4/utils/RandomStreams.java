@@ -0,0 +1,59 @@
+package uk.ac.york.sepr4.utils;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.SplittableRandom;
+
+/***
+ * Seeded random numbers for one world, split into an independent stream per subsystem.
+ *
+ * Every stream is split from the seed in a fixed order, so the same seed replays the same spawns,
+ * NPC stats and AI decisions. Streams do not share state - e.g. an extra AI roll never moves the
+ * next spawn. Not thread safe: use from the thread stepping the world.
+ */
+public class RandomStreams {
+
+    public enum Stream {
+        //NPC steering and aim
+        AI,
+        //spawn rolls and positions
+        SPAWN,
+        //NPC stats and starting headings
+        NPC,
+        //minigame timings
+        MINIGAME
+    }
+
+    @Getter
+    private long seed;
+    private EnumMap<Stream, SplittableRandom> streams = new EnumMap<>(Stream.class);
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (Stream stream : Stream.values()) {
+            streams.put(stream, root.split());
+        }
+    }
+
+    public SplittableRandom get(Stream stream) {
+        return streams.get(stream);
+    }
+
+    //uniform in [0, 1)
+    public float nextFloat(Stream stream) {
+        //24 random bits fill a float mantissa exactly, so the result never rounds up to 1
+        return get(stream).nextInt(1 << 24) / (float) (1 << 24);
+    }
+
+    //uniform in [0, 1)
+    public double nextDouble(Stream stream) {
+        return get(stream).nextDouble();
+    }
+
+    //uniform in [0, bound)
+    public int nextInt(Stream stream, int bound) {
+        return get(stream).nextInt(bound);
+    }
+}
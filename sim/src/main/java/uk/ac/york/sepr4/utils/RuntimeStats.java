@@ -0,0 +1,26 @@
+package uk.ac.york.sepr4.utils;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/***
+ * JVM heap and garbage collection figures, for soak run logs.
+ */
+public class RuntimeStats {
+
+    /***
+     * @return heap used and allocated, and total collections and collection time since start
+     */
+    public static String describe() {
+        Runtime runtime = Runtime.getRuntime();
+        long collections = 0, collectionTime = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            //-1 if a collector does not report it
+            collections += Math.max(collector.getCollectionCount(), 0);
+            collectionTime += Math.max(collector.getCollectionTime(), 0);
+        }
+        return String.format("Heap: %d/%d MB, GC: %d collections (%d ms)",
+                (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024), runtime.totalMemory() / (1024 * 1024),
+                collections, collectionTime);
+    }
+}
@@ -7,7 +7,7 @@ import com.badlogic.gdx.math.Vector2;
 import uk.ac.york.sepr4.object.entity.LivingEntity;
 
 import java.util.Optional;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class ShapeUtil {
 
@@ -30,10 +30,9 @@ public class ShapeUtil {
     }
 
     //get random coordinate within polygon
-    public static Optional<Vector2> getRandomPosition(Polygon polygon) {
+    public static Optional<Vector2> getRandomPosition(Polygon polygon, SplittableRandom random) {
         Integer attempts = 25;
         Rectangle rectangle = polygon.getBoundingRectangle();
-        Random random = new Random();
 
         while(attempts > 0) {
             Vector2 pos = new Vector2((int)(rectangle.x + (rectangle.width*random.nextDouble())),
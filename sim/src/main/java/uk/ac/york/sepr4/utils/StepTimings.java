@@ -0,0 +1,64 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/***
+ * Time spent in each phase of simulation steps, totalled over many steps, plus the slowest step.
+ * Phases are marked in order within a step (like PhaseTimer, without logging every step).
+ */
+public class StepTimings {
+
+    //phase name to total and worst time (ns), in order
+    private Map<String, Long> totals = new LinkedHashMap<>();
+    private Map<String, Long> worst = new LinkedHashMap<>();
+    @Getter
+    private int steps;
+    private long stepStart, last, worstStep;
+
+    public void beginStep() {
+        stepStart = TimeUtils.nanoTime();
+        last = stepStart;
+    }
+
+    /***
+     * End the current phase of the step and start the next.
+     * @param phase name of the phase which just finished
+     */
+    public void mark(String phase) {
+        long now = TimeUtils.nanoTime();
+        totals.merge(phase, now - last, Long::sum);
+        worst.merge(phase, now - last, Math::max);
+        last = now;
+    }
+
+    public void endStep() {
+        worstStep = Math.max(worstStep, TimeUtils.nanoTime() - stepStart);
+        steps++;
+    }
+
+    //total time in a phase (ns), 0 if never marked
+    public long getTotal(String phase) {
+        return totals.getOrDefault(phase, 0L);
+    }
+
+    /***
+     * Format as a table, one line per phase, then the slowest whole step.
+     * @return table lines
+     */
+    public List<String> format() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-12s %10s %10s %10s", "phase", "total ms", "mean us", "worst us"));
+        for (Map.Entry<String, Long> phase : totals.entrySet()) {
+            lines.add(String.format("%-12s %10.1f %10.2f %10.1f", phase.getKey(), phase.getValue() / 1e6,
+                    phase.getValue() / 1e3 / Math.max(steps, 1), worst.get(phase.getKey()) / 1e3));
+        }
+        lines.add(String.format("Slowest step: %.1fus over %d steps", worstStep / 1e3, steps));
+        return lines;
+    }
+}
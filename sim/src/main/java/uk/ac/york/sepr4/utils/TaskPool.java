@@ -0,0 +1,82 @@
+package uk.ac.york.sepr4.utils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/***
+ * Worker threads for CPU-only work (e.g. map preprocessing, JSON parsing) so it can overlap with
+ * work that has to stay on the GL thread (texture uploads, baking caches).
+ *
+ * Tasks must not touch GL or game state shared with the render thread - results are handed back
+ * through the returned Future and used on the GL thread after join.
+ */
+public class TaskPool implements Disposable {
+
+    private ExecutorService executor;
+
+    public TaskPool(String name) {
+        //leave a core for the GL thread
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /***
+     * Run a task on a worker thread, logging how long it took.
+     * Tasks must not block on other tasks (the pool is fixed size) - chain them on the returned future instead.
+     * @param task name of the task (for the log)
+     * @param callable work to run
+     * @return future result (see join)
+     */
+    public <T> CompletableFuture<T> submit(String task, Callable<T> callable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            long start = TimeUtils.nanoTime();
+            try {
+                T result = callable.call();
+                Gdx.app.log("TaskPool", task + ": " + TimeUtils.nanosToMillis(TimeUtils.nanoTime() - start)
+                        + "ms (" + Thread.currentThread().getName() + ")");
+                future.complete(result);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /***
+     * Wait for a task to finish.
+     * @param future future returned by submit
+     * @return result of the task
+     * @throws GdxRuntimeException if the task failed
+     */
+    public static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new GdxRuntimeException("Background task failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GdxRuntimeException("Interrupted waiting for background task", e);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        executor.shutdownNow();
+    }
+}
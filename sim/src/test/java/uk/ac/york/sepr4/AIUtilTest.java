@@ -14,6 +14,15 @@ public class AIUtilTest {
         Assert.assertEquals(Math.PI, AIUtil.normalizeAngle((float) (3 * Math.PI)), 0.01);
     }
 
+    @Test
+    public void signedAngleDifferenceTest() {
+        Assert.assertEquals(1, AIUtil.signedAngleDifference(0, 1), 0.01);
+        Assert.assertEquals(-1, AIUtil.signedAngleDifference(1, 0), 0.01);
+        //shorter way round is across 0
+        Assert.assertEquals(0.2, AIUtil.signedAngleDifference((float) (2 * Math.PI - 0.1), 0.1f), 0.01);
+        Assert.assertEquals(-0.2, AIUtil.signedAngleDifference(0.1f, (float) (-0.1 + 4 * Math.PI)), 0.01);
+    }
+
     @Test
     public void thetaAngleTest() {
         Assert.assertEquals(Math.PI, AIUtil.thetaForAngleDiffrence(0, 0), 0.01);
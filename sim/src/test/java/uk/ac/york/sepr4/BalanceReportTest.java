@@ -0,0 +1,44 @@
+package uk.ac.york.sepr4;
+
+import org.junit.Assert;
+import org.junit.Test;
+import uk.ac.york.sepr4.balance.BalanceReport;
+import uk.ac.york.sepr4.balance.Engagement;
+
+public class BalanceReportTest {
+
+    @Test
+    public void ratesTest() {
+        BalanceReport report = new BalanceReport("test");
+        report.add("easy", new Engagement.Result(Engagement.Outcome.WON, 10, 1));
+        report.add("easy", new Engagement.Result(Engagement.Outcome.WON, 20, 1));
+        report.add("easy", new Engagement.Result(Engagement.Outcome.LOST, 30, 0));
+        report.add("easy", new Engagement.Result(Engagement.Outcome.TIMED_OUT, 120, 0));
+
+        BalanceReport.Row row = report.getRow("easy");
+        Assert.assertEquals(4, row.getRuns());
+        Assert.assertEquals(0.5f, row.getRate(Engagement.Outcome.WON), 0.001f);
+        Assert.assertEquals(0.25f, row.getRate(Engagement.Outcome.LOST), 0.001f);
+        Assert.assertEquals(0.25f, row.getRate(Engagement.Outcome.TIMED_OUT), 0.001f);
+    }
+
+    @Test
+    public void timeToKillTest() {
+        BalanceReport report = new BalanceReport("test");
+        report.add("hard", new Engagement.Result(Engagement.Outcome.WON, 30, 1));
+        report.add("hard", new Engagement.Result(Engagement.Outcome.WON, 10, 1));
+        report.add("hard", new Engagement.Result(Engagement.Outcome.WON, 50, 1));
+        report.add("hard", new Engagement.Result(Engagement.Outcome.LOST, 40, 0));
+
+        BalanceReport.Row row = report.getRow("hard");
+        Assert.assertEquals(30f, row.getMeanTimeToKill(), 0.001f);
+        Assert.assertEquals(30f, row.getMedianTimeToKill(), 0.001f);
+        Assert.assertEquals(40f, row.getMeanTimeToDeath(), 0.001f);
+
+        //no wins - no time to kill
+        report.add("impossible", new Engagement.Result(Engagement.Outcome.LOST, 5, 0));
+        Assert.assertTrue(Float.isNaN(report.getRow("impossible").getMeanTimeToKill()));
+        //title, header and both rows
+        Assert.assertEquals(4, report.format().size());
+    }
+}
@@ -0,0 +1,35 @@
+package uk.ac.york.sepr4;
+
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.Assert;
+import org.junit.Test;
+import uk.ac.york.sepr4.utils.CollisionGrid;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class CollisionGridTest {
+
+    @Test
+    public void collidingTest() {
+        Polygon near = new Polygon(new float[]{10,10, 20,10, 20,20, 10,20});
+        Polygon far = new Polygon(new float[]{1000,1000, 1010,1000, 1010,1010});
+        CollisionGrid grid = new CollisionGrid(Arrays.asList(near, far), 100f);
+
+        Assert.assertTrue(grid.isColliding(new Rectangle(0,0, 15,15)));
+        Assert.assertTrue(grid.isColliding(new Rectangle(1005,995, 10,10)));
+        Assert.assertFalse(grid.isColliding(new Rectangle(500,500, 50,50)));
+    }
+
+    @Test
+    public void outsideGridTest() {
+        Polygon polygon = new Polygon(new float[]{0,0, 10,0, 10,10});
+        CollisionGrid grid = new CollisionGrid(Collections.singletonList(polygon), 100f);
+
+        //rectangles outside the grid bounds are still checked correctly
+        Assert.assertFalse(grid.isColliding(new Rectangle(-500,-500, 10,10)));
+        Assert.assertTrue(grid.isColliding(new Rectangle(-5,-5, 10,10)));
+        Assert.assertFalse(new CollisionGrid(Collections.emptyList(), 100f).isColliding(new Rectangle(0,0, 1,1)));
+    }
+}
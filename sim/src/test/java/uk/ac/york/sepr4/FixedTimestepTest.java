@@ -0,0 +1,45 @@
+package uk.ac.york.sepr4;
+
+import org.junit.Assert;
+import org.junit.Test;
+import uk.ac.york.sepr4.utils.FixedTimestep;
+
+public class FixedTimestepTest {
+
+    @Test
+    public void stepCountTest() {
+        FixedTimestep timestep = new FixedTimestep(0.1f, 5);
+
+        //frame shorter than a step - time carried over
+        Assert.assertEquals(0, timestep.advance(0.05f));
+        Assert.assertEquals(0.5f, timestep.getAlpha(), 0.001f);
+        Assert.assertEquals(1, timestep.advance(0.06f));
+        Assert.assertEquals(0.1f, timestep.getAlpha(), 0.001f);
+        Assert.assertEquals(3, timestep.advance(0.3f));
+    }
+
+    @Test
+    public void frameRateIndependenceTest() {
+        //one simulated second at 30Hz and 240Hz runs the same number of steps
+        FixedTimestep slow = new FixedTimestep(1 / 60f, 5), fast = new FixedTimestep(1 / 60f, 5);
+        int slowSteps = 0, fastSteps = 0;
+        for (int i = 0; i < 30; i++) {
+            slowSteps += slow.advance(1 / 30f);
+        }
+        for (int i = 0; i < 240; i++) {
+            fastSteps += fast.advance(1 / 240f);
+        }
+        Assert.assertEquals(60, slowSteps, 1);
+        Assert.assertEquals(60, fastSteps, 1);
+    }
+
+    @Test
+    public void maxStepsTest() {
+        FixedTimestep timestep = new FixedTimestep(0.1f, 5);
+
+        //long frame clamped, excess dropped
+        Assert.assertEquals(5, timestep.advance(2f));
+        Assert.assertTrue(timestep.getAlpha() < 1f);
+        Assert.assertEquals(0, timestep.advance(0.01f));
+    }
+}
@@ -0,0 +1,76 @@
+package uk.ac.york.sepr4;
+
+import org.junit.Assert;
+import org.junit.Test;
+import uk.ac.york.sepr4.replay.InputLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class InputLogTest {
+
+    @Test
+    public void roundTripTest() throws IOException {
+        InputLog log = new InputLog(1234L);
+        log.add(0, InputLog.Event.KEY_DOWN, 51);
+        log.add(0, InputLog.Event.KEY_DOWN, 29);
+        log.add(90, InputLog.Event.FIRE, Float.floatToIntBits(-1.25f));
+        log.add(100000, InputLog.Event.KEY_UP, 51);
+        log.setSteps(200000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        InputLog read = InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        Assert.assertEquals(1234L, read.getSeed());
+        Assert.assertEquals(200000, read.getSteps());
+        Assert.assertEquals(4, read.size());
+        Assert.assertEquals(90, read.getTick(2));
+        Assert.assertEquals(InputLog.Event.FIRE, read.getEvent(2));
+        Assert.assertEquals(-1.25f, Float.intBitsToFloat(read.getValue(2)), 0);
+        Assert.assertEquals(100000, read.getTick(3));
+        Assert.assertEquals(51, read.getValue(3));
+    }
+
+    @Test
+    public void negativeValueTest() throws IOException {
+        //gold spent outside sailing is recorded as a negative amount
+        InputLog log = new InputLog(0);
+        log.add(30, InputLog.Event.GOLD, -20);
+        log.add(30, InputLog.Event.REPAIR, 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        InputLog read = InputLog.read(new ByteArrayInputStream(out.toByteArray()));
+
+        Assert.assertEquals(InputLog.Event.GOLD, read.getEvent(0));
+        Assert.assertEquals(-20, read.getValue(0));
+        Assert.assertEquals(InputLog.Event.REPAIR, read.getEvent(1));
+        Assert.assertEquals(2, read.getValue(1));
+    }
+
+    @Test
+    public void compactTest() throws IOException {
+        InputLog log = new InputLog(0);
+        for (int i = 0; i < 100; i++) {
+            log.add(i * 10, InputLog.Event.KEY_DOWN, 51);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.write(out);
+        //28 byte header, 3 bytes per key
+        Assert.assertEquals(28 + 300, out.size());
+    }
+
+    @Test(expected = IOException.class)
+    public void notALogTest() throws IOException {
+        InputLog.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfOrderTest() {
+        InputLog log = new InputLog(0);
+        log.add(10, InputLog.Event.KEY_DOWN, 51);
+        log.add(5, InputLog.Event.KEY_UP, 51);
+    }
+}
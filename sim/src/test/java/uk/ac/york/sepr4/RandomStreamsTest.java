@@ -0,0 +1,37 @@
+package uk.ac.york.sepr4;
+
+import org.junit.Assert;
+import org.junit.Test;
+import uk.ac.york.sepr4.utils.RandomStreams;
+import uk.ac.york.sepr4.utils.RandomStreams.Stream;
+
+public class RandomStreamsTest {
+
+    @Test
+    public void sameSeedTest() {
+        RandomStreams a = new RandomStreams(42), b = new RandomStreams(42);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(a.nextDouble(Stream.AI), b.nextDouble(Stream.AI), 0);
+            Assert.assertEquals(a.nextInt(Stream.SPAWN, 10), b.nextInt(Stream.SPAWN, 10));
+        }
+    }
+
+    @Test
+    public void independentStreamsTest() {
+        RandomStreams a = new RandomStreams(42), b = new RandomStreams(42);
+        //extra draws from one stream do not move another
+        for (int i = 0; i < 10; i++) {
+            a.nextFloat(Stream.AI);
+        }
+        Assert.assertEquals(a.nextDouble(Stream.SPAWN), b.nextDouble(Stream.SPAWN), 0);
+    }
+
+    @Test
+    public void floatRangeTest() {
+        RandomStreams random = new RandomStreams(7);
+        for (int i = 0; i < 1000; i++) {
+            float value = random.nextFloat(Stream.NPC);
+            Assert.assertTrue(value >= 0 && value < 1);
+        }
+    }
+}